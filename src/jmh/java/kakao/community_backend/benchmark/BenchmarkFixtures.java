@@ -0,0 +1,111 @@
+package kakao.community_backend.benchmark;
+
+import kakao.community_backend.entity.Comment;
+import kakao.community_backend.entity.Post;
+import kakao.community_backend.entity.User;
+import kakao.community_backend.repository.PostFeedRow;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+// 벤치마크용 엔티티 그래프와 객체 생성 도우미
+final class BenchmarkFixtures {
+
+    private static final String PARAGRAPH = "오늘은 판교 근처에서 스프링 부트 스터디를 진행했습니다. "
+            + "JPA N+1 문제와 커서 기반 페이지네이션을 주제로 이야기했고, 실제 서비스 쿼리 로그를 보면서 "
+            + "인덱스를 어떻게 설계해야 하는지 함께 고민했습니다. 다음 주에는 캐시 무효화 전략을 다룰 예정입니다. ";
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    // 내용 해시 형식의 업로드 이미지 URL
+    static String imageUrl(long seed) {
+        return "/uploads/" + hash(seed) + ".jpg";
+    }
+
+    static String hash(long seed) {
+        return String.format("%064x", seed * 0x9E3779B97F4A7C15L & Long.MAX_VALUE);
+    }
+
+    static User user(long userId) {
+        return User.builder()
+                .userId(userId)
+                .email("user" + userId + "@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuvABCDEFGHIJKLMNOPQRSTUVWXYZ01234")
+                .nickname("사용자" + userId)
+                .profileImageUrl(imageUrl(userId))
+                .isDeleted(false)
+                .build();
+    }
+
+    // 본문 약 1,500자, 작성자 포함
+    static Post post(long postId, User author) {
+        Post post = new Post();
+        post.setPostId(postId);
+        post.setTitle("스프링 부트 스터디 " + postId + "주차 후기");
+        post.setContent(PARAGRAPH.repeat(8));
+        post.setContentImageUrl(imageUrl(postId + 1000));
+        post.setViewCount(1234);
+        post.setLikeCount(56);
+        post.setCreatedAt(BASE_TIME.plusMinutes(postId));
+        post.setUpdatedAt(BASE_TIME.plusMinutes(postId + 5));
+        post.setUser(author);
+        return post;
+    }
+
+    static PostFeedRow feedRow(Post post) {
+        User author = post.getUser();
+        return new PostFeedRow(post.getPostId(), post.getTitle(), post.getContent().substring(0, 100),
+                post.getContentImageUrl(), post.getViewCount(), post.getLikeCount(),
+                author.getUserId(), author.getNickname(), author.getProfileImageUrl(),
+                post.getCreatedAt(), post.getUpdatedAt());
+    }
+
+    static Comment comment(long commentId, Post post, User author) {
+        Comment comment = new Comment();
+        comment.setCommentId(commentId);
+        comment.setContent("좋은 정리 감사합니다! 커서 페이지네이션 부분은 저도 적용해 봐야겠네요.");
+        comment.setCreatedAt(BASE_TIME.plusMinutes(commentId));
+        comment.setUpdatedAt(BASE_TIME.plusMinutes(commentId));
+        comment.setUser(author);
+        comment.setPost(post);
+        return comment;
+    }
+
+    // 썸네일/피드 변형이 이미 생성된 상태의 업로드 디렉터리 (변형 URL 조회가 정상 경로를 타도록)
+    static Path uploadDirWithVariants(long... seeds) throws IOException {
+        Path root = Files.createTempDirectory("bench-uploads");
+        Path variants = Files.createDirectories(root.resolve("variants"));
+        for (long seed : seeds) {
+            Files.write(variants.resolve(hash(seed) + "-thumb.jpg"), new byte[]{1});
+            Files.write(variants.resolve(hash(seed) + "-feed.jpg"), new byte[]{1});
+        }
+        return root;
+    }
+
+    // 생성자 파라미터 타입에 맞는 의존성을 넣고 나머지는 null (벤치마크 대상 경로에서 쓰지 않는 의존성)
+    @SuppressWarnings("unchecked")
+    static <T> T construct(Class<T> type, Object... dependencies) {
+        Constructor<?> constructor = type.getConstructors()[0];
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            for (Object dependency : dependencies) {
+                if (parameterTypes[i].isInstance(dependency)) {
+                    args[i] = dependency;
+                    break;
+                }
+            }
+        }
+        try {
+            return (T) constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
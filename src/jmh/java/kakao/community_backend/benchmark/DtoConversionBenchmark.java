@@ -0,0 +1,105 @@
+package kakao.community_backend.benchmark;
+
+import kakao.community_backend.dto.CommentDto;
+import kakao.community_backend.dto.PostDto;
+import kakao.community_backend.entity.Comment;
+import kakao.community_backend.entity.Post;
+import kakao.community_backend.entity.User;
+import kakao.community_backend.repository.PostFeedRow;
+import kakao.community_backend.service.CommentServiceImpl;
+import kakao.community_backend.service.PostServiceImpl;
+import kakao.community_backend.service.ViewCountAggregator;
+import kakao.community_backend.storage.ImageVariantService;
+import kakao.community_backend.storage.LocalImageStorageService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// 서비스의 엔티티/프로젝션 -> DTO 변환 (조회수 집계, 이미지 변형 URL 조회 포함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoConversionBenchmark {
+
+    // private 메서드를 static final 핸들로 잡아 JIT이 직접 호출처럼 인라인하도록 함
+    private static final MethodHandle POST_TO_DTO;
+    private static final MethodHandle FEED_ROW_TO_DTO;
+    private static final MethodHandle COMMENT_TO_DTO;
+
+    static {
+        try {
+            MethodHandles.Lookup postLookup = MethodHandles.privateLookupIn(PostServiceImpl.class, MethodHandles.lookup());
+            POST_TO_DTO = postLookup.findVirtual(PostServiceImpl.class, "convertToDto",
+                    MethodType.methodType(PostDto.class, Post.class, long.class));
+            FEED_ROW_TO_DTO = postLookup.findVirtual(PostServiceImpl.class, "convertToDto",
+                    MethodType.methodType(PostDto.class, PostFeedRow.class, long.class));
+            COMMENT_TO_DTO = MethodHandles.privateLookupIn(CommentServiceImpl.class, MethodHandles.lookup())
+                    .findVirtual(CommentServiceImpl.class, "convertToDto",
+                            MethodType.methodType(CommentDto.class, Comment.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private PostServiceImpl postService;
+    private CommentServiceImpl commentService;
+    private ImageVariantService imageVariantService;
+    private Post post;
+    private PostFeedRow feedRow;
+    private Comment comment;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        User author = BenchmarkFixtures.user(7);
+        User commenter = BenchmarkFixtures.user(8);
+        post = BenchmarkFixtures.post(101, author);
+        feedRow = BenchmarkFixtures.feedRow(post);
+        comment = BenchmarkFixtures.comment(5001, post, commenter);
+
+        ApplicationEventPublisher publisher = event -> {
+        };
+        Path uploadDir = BenchmarkFixtures.uploadDirWithVariants(7, 8, 101 + 1000);
+        LocalImageStorageService storage = new LocalImageStorageService(uploadDir.toString(), publisher);
+        imageVariantService = new ImageVariantService(storage, uploadDir.toString(), 64L * 1024 * 1024, 1, 16);
+
+        ViewCountAggregator viewCountAggregator = BenchmarkFixtures.construct(ViewCountAggregator.class, publisher);
+        viewCountAggregator.increment(post.getPostId());
+
+        postService = BenchmarkFixtures.construct(PostServiceImpl.class,
+                viewCountAggregator, imageVariantService, publisher);
+        commentService = BenchmarkFixtures.construct(CommentServiceImpl.class, imageVariantService, publisher);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        imageVariantService.shutdown();
+    }
+
+    @Benchmark
+    public PostDto postEntityToDto() throws Throwable {
+        return (PostDto) POST_TO_DTO.invokeExact(postService, post, 12L);
+    }
+
+    @Benchmark
+    public PostDto feedRowToDto() throws Throwable {
+        return (PostDto) FEED_ROW_TO_DTO.invokeExact(postService, feedRow, 12L);
+    }
+
+    @Benchmark
+    public CommentDto commentEntityToDto() throws Throwable {
+        return (CommentDto) COMMENT_TO_DTO.invokeExact(commentService, comment);
+    }
+}
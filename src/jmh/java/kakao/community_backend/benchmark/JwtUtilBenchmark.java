@@ -0,0 +1,56 @@
+package kakao.community_backend.benchmark;
+
+import kakao.community_backend.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// 토큰 생성, 검증 캐시 적중, 전체 파싱
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = newJwtUtil();
+        token = jwtUtil.generateToken(42L);
+        jwtUtil.verifyAndExtractUserId(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(42L);
+    }
+
+    @Benchmark
+    public Long verifyCached() {
+        return jwtUtil.verifyAndExtractUserId(token);
+    }
+
+    // 캐시를 거치지 않는 서명 검증 + 클레임 파싱 (캐시 미적중 시 비용)
+    @Benchmark
+    public Long extractUserId() {
+        return jwtUtil.extractUserId(token);
+    }
+
+    private static JwtUtil newJwtUtil() {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "SECRET_KEY", "benchmark-secret-key-that-is-at-least-256-bits-long!!");
+        ReflectionTestUtils.setField(util, "JWT_TOKEN_VALIDITY", 86_400_000L);
+        ReflectionTestUtils.setField(util, "REFRESH_TOKEN_VALIDITY", 604_800_000L);
+        ReflectionTestUtils.setField(util, "VERIFIED_CACHE_SIZE", 10_000);
+        ReflectionTestUtils.invokeMethod(util, "init");
+        return util;
+    }
+}
@@ -0,0 +1,122 @@
+package kakao.community_backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import kakao.community_backend.dto.ApiResponse;
+import kakao.community_backend.dto.PageResponse;
+import kakao.community_backend.dto.PostDto;
+import kakao.community_backend.entity.Post;
+import kakao.community_backend.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 게시글 목록 한 페이지(20건) 응답 구성 + 직렬화: 타입 있는 응답 vs 기존 HashMap 응답, Blackbird 적용 여부
+// 요청마다 하는 일과 같도록 응답 객체(HashMap 또는 레코드)는 호출마다 새로 만듦
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final long TOTAL_ELEMENTS = 1000;
+
+    private ObjectMapper plainMapper;
+    private ObjectMapper blackbirdMapper;
+    // 서비스가 돌려주는 페이지 (응답 구성은 벤치마크 메서드마다 새로 함)
+    private Page<PostDto> page;
+
+    @Setup
+    public void setUp() {
+        plainMapper = newMapper();
+        blackbirdMapper = newMapper().registerModule(new BlackbirdModule());
+
+        List<PostDto> posts = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            User author = BenchmarkFixtures.user(id % 5 + 1);
+            Post post = BenchmarkFixtures.post(id, author);
+            posts.add(PostDto.builder()
+                    .postId(post.getPostId())
+                    .title(post.getTitle())
+                    .content(post.getContent().substring(0, 100))
+                    .contentImageUrl(post.getContentImageUrl())
+                    .contentImageFeedUrl(post.getContentImageUrl())
+                    .viewCount(post.getViewCount())
+                    .likeCount(post.getLikeCount())
+                    .commentCount(3)
+                    .authorId(author.getUserId())
+                    .authorNickname(author.getNickname())
+                    .authorProfileImageUrl(author.getProfileImageUrl())
+                    .authorProfileThumbnailUrl(author.getProfileImageUrl())
+                    .createdAt(post.getCreatedAt())
+                    .updatedAt(post.getUpdatedAt())
+                    .build());
+        }
+
+        page = new PageImpl<>(posts, PageRequest.of(0, PAGE_SIZE), TOTAL_ELEMENTS);
+    }
+
+    @Benchmark
+    public void typedWithBlackbird() throws IOException {
+        blackbirdMapper.writeValue(OutputStream.nullOutputStream(), typedResponse());
+    }
+
+    @Benchmark
+    public void typedPlain() throws IOException {
+        plainMapper.writeValue(OutputStream.nullOutputStream(), typedResponse());
+    }
+
+    @Benchmark
+    public void legacyMapWithBlackbird() throws IOException {
+        blackbirdMapper.writeValue(OutputStream.nullOutputStream(), legacyResponse());
+    }
+
+    @Benchmark
+    public void legacyMapPlain() throws IOException {
+        plainMapper.writeValue(OutputStream.nullOutputStream(), legacyResponse());
+    }
+
+    // PostController.getAllPosts의 현재 응답 구성
+    private ApiResponse<PageResponse<PostDto>> typedResponse() {
+        return ApiResponse.success(200, "게시글 목록 조회 성공", PageResponse.of(page, 1, PAGE_SIZE));
+    }
+
+    // 타입 있는 응답으로 바꾸기 전의 요청별 HashMap 구성
+    private ApiResponse<Map<String, Object>> legacyResponse() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", page.getContent());
+
+        Map<String, Object> pageable = new HashMap<>();
+        pageable.put("page", 1);
+        pageable.put("size", PAGE_SIZE);
+        pageable.put("totalElements", page.getTotalElements());
+        pageable.put("totalPages", page.getTotalPages());
+
+        response.put("pageable", pageable);
+        return ApiResponse.success(200, "게시글 목록 조회 성공", response);
+    }
+
+    // 애플리케이션의 ObjectMapper와 같은 날짜 형식 설정
+    private static ObjectMapper newMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
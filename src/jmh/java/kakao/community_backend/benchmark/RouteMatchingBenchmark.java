@@ -0,0 +1,30 @@
+package kakao.community_backend.benchmark;
+
+import kakao.community_backend.interceptor.JwtAuthenticationInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// 인증 인터셉터의 공개 경로 판별 (모든 요청마다 실행)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteMatchingBenchmark {
+
+    @Param({"/posts", "/posts/12345", "/posts/12345/comments", "/posts/search",
+            "/uploads/variants/0123456789abcdef-feed.jpg", "/users/me", "/posts/12345/likes"})
+    public String uri;
+
+    private final JwtAuthenticationInterceptor interceptor = new JwtAuthenticationInterceptor();
+
+    @Benchmark
+    public boolean isPublicEndpoint() {
+        return interceptor.isPublicEndpoint("GET", uri);
+    }
+}
@@ -0,0 +1,127 @@
+package kakao.community_backend.loadtest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import kakao.community_backend.entity.Comment;
+import kakao.community_backend.entity.Post;
+import kakao.community_backend.entity.User;
+import kakao.community_backend.repository.PostRepository;
+import kakao.community_backend.repository.UserRepository;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 댓글 대량 INSERT를 JDBC 배치 없이(세션 배치 크기 1) / 배치로 실행해 처리량과 DB 왕복(JDBC 실행) 수를 비교
+// 배치는 문장을 한 번 준비해 여러 번 실행하므로 준비 횟수가 아닌 executeUpdate/executeBatch 호출 수를 셈
+// 부하 테스트와 DB가 섞이지 않도록 별도 메모리 DB 사용
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.url=jdbc:h2:mem:batchinsert;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("loadtest")
+class BatchInsertThroughputTest {
+
+    private static final int WARMUP_ROWS = 1_000;
+    private static final int ROWS = 10_000;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    void batchedInsertsSendFarFewerStatements() {
+        User author = userRepository.save(User.builder()
+                .email("batch-insert@example.com")
+                .password("password")
+                .nickname("batchins")
+                .isDeleted(false)
+                .build());
+        Post post = postRepository.save(Post.builder()
+                .title("배치 INSERT 측정")
+                .content("내용")
+                .user(author)
+                .isDeleted(false)
+                .build());
+
+        insertComments(post, author, WARMUP_ROWS, 1);
+        insertComments(post, author, WARMUP_ROWS, null);
+
+        InsertResult unbatched = insertComments(post, author, ROWS, 1);
+        InsertResult batched = insertComments(post, author, ROWS, null);
+        System.out.printf("%n댓글 %d건 INSERT%n배치 없음: %s%n배치: %s%n", ROWS, unbatched, batched);
+
+        assertThat(batched.executions()).isLessThan(unbatched.executions() / 5);
+    }
+
+    // jdbcBatchSize가 null이면 설정값(hibernate.jdbc.batch_size) 사용
+    private InsertResult insertComments(Post post, User author, int rows, Integer jdbcBatchSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ExecutionCounter executions = new ExecutionCounter();
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.addEventListeners(executions);
+            if (jdbcBatchSize != null) {
+                session.setJdbcBatchSize(jdbcBatchSize);
+            }
+            Post postRef = session.getReference(Post.class, post.getPostId());
+            User authorRef = session.getReference(User.class, author.getUserId());
+            for (int i = 0; i < rows; i++) {
+                session.persist(Comment.builder()
+                        .content("배치 댓글 " + i)
+                        .user(authorRef)
+                        .post(postRef)
+                        .isDeleted(false)
+                        .build());
+            }
+        });
+        long elapsedNanos = System.nanoTime() - start;
+
+        return new InsertResult(rows, elapsedNanos, executions.count, statistics.getPrepareStatementCount());
+    }
+
+    // 세션이 실행한 JDBC 문장(단건 실행 + 배치 실행) 수
+    private static class ExecutionCounter implements SessionEventListener {
+        private long count;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            count++;
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            count++;
+        }
+    }
+
+    private record InsertResult(int rows, long elapsedNanos, long executions, long prepared) {
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            return String.format("%.0f rows/s, %.1fms, JDBC 실행 %d회 (문장 준비 %d회)",
+                    rows / seconds, elapsedNanos / 1_000_000.0, executions, prepared);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package kakao.community_backend.loadtest;
+
+// 엔드포인트별 측정 결과 (지연 시간은 밀리초, JSON 직렬화를 위해 public)
+public record EndpointStats(String endpoint, long requests, long errors, double throughput,
+                            double p50Millis, double p95Millis, double p99Millis) {
+}
@@ -0,0 +1,46 @@
+package kakao.community_backend.loadtest;
+
+import java.util.Arrays;
+
+// 작업 하나의 응답 시간 표본 (가상 사용자 스레드마다 따로 두고 마지막에 합침, 스레드 안전하지 않음)
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long elapsedNanos, boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = elapsedNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void addAll(LatencyRecorder other) {
+        if (count + other.count > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, count + other.count));
+        }
+        System.arraycopy(other.samples, 0, samples, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    EndpointStats toStats(String endpoint, double measuredSeconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new EndpointStats(endpoint, count, errors, count / measuredSeconds,
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.95), percentileMillis(sorted, 0.99));
+    }
+
+    // nearest-rank 방식
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,138 @@
+package kakao.community_backend.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+// 사용자/게시글/댓글/좋아요 시드 데이터를 JDBC 배치로 적재
+// ID는 1부터 연속으로 부여하므로 부하 생성기가 ID 범위만으로 대상을 고를 수 있음
+class LoadTestDataSeeder {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String PARAGRAPH = "이번 주 스터디에서는 JPA 연관관계와 페치 전략을 정리했습니다. "
+            + "목록 조회에서 발생하던 N+1 문제를 프로젝션으로 바꾸고 인덱스를 다시 설계했더니 응답 시간이 크게 줄었습니다. ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Random random = new Random(42);
+
+    LoadTestDataSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    static String email(long userId) {
+        return "loadtest" + userId + "@example.com";
+    }
+
+    void seed(LoadTestSettings settings) {
+        LocalDateTime now = LocalDateTime.now();
+        seedUsers(settings.users(), passwordEncoder.encode(settings.password()), now);
+        seedPosts(settings.posts(), settings.users(), settings.likesPerPost(), now);
+        seedComments(settings.posts(), settings.users(), settings.commentsPerPost(), now);
+        seedLikes(settings.posts(), settings.users(), settings.likesPerPost(), now);
+
+        // 이후 애플리케이션이 만드는 행과 ID가 겹치지 않도록 자동 증가 값과 ID 할당 테이블 조정
+        restartIdentity("Users", "user_id");
+        advanceIdGenerator("Posts", "post_id");
+        advanceIdGenerator("Comments", "comment_id");
+    }
+
+    // 비밀번호 해시는 한 번만 계산해 모든 사용자에게 사용
+    private void seedUsers(int users, String passwordHash, LocalDateTime now) {
+        String sql = "INSERT INTO Users (user_id, email, password, nickname, profile_image_url, "
+                + "created_at, updated_at, is_deleted) VALUES (?, ?, ?, ?, NULL, ?, ?, false)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (long userId = 1; userId <= users; userId++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusDays(60).plusSeconds(userId));
+            rows.add(new Object[]{userId, email(userId), passwordHash, "lt" + userId, createdAt, createdAt});
+            flushIfFull(rows, sql);
+        }
+        flush(rows, sql);
+    }
+
+    // 최근 30일에 고르게 분포 (ID가 클수록 최신)
+    private void seedPosts(int posts, int users, int likesPerPost, LocalDateTime now) {
+        String sql = "INSERT INTO Posts (post_id, title, content, content_image_url, view_count, like_count, "
+                + "created_at, updated_at, is_deleted, user_id) VALUES (?, ?, ?, NULL, ?, ?, ?, ?, false, ?)";
+        long spanSeconds = 30L * 24 * 60 * 60;
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (long postId = 1; postId <= posts; postId++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(spanSeconds - spanSeconds * postId / posts));
+            String content = PARAGRAPH.repeat(1 + random.nextInt(8));
+            rows.add(new Object[]{postId, "부하 테스트 게시글 " + postId, content, random.nextInt(500),
+                    Math.min(likesPerPost, users), createdAt, createdAt, 1 + random.nextInt(users)});
+            flushIfFull(rows, sql);
+        }
+        flush(rows, sql);
+    }
+
+    private void seedComments(int posts, int users, int commentsPerPost, LocalDateTime now) {
+        String sql = "INSERT INTO Comments (content, created_at, updated_at, is_deleted, user_id, post_id) "
+                + "VALUES (?, ?, ?, false, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (long postId = 1; postId <= posts; postId++) {
+            for (int i = 0; i < commentsPerPost; i++) {
+                Timestamp createdAt = Timestamp.valueOf(now.minusMinutes((long) (posts - postId) * 2 + commentsPerPost - i));
+                rows.add(new Object[]{"시드 댓글 " + i, createdAt, createdAt, 1 + random.nextInt(users), postId});
+                flushIfFull(rows, sql);
+            }
+        }
+        flush(rows, sql);
+    }
+
+    // like_count와 Likes 행 수가 일치하도록 게시글마다 서로 다른 사용자로 채움
+    private void seedLikes(int posts, int users, int likesPerPost, LocalDateTime now) {
+        String sql = "INSERT INTO Likes (created_at, user_id, post_id) VALUES (?, ?, ?)";
+        Timestamp createdAt = Timestamp.valueOf(now);
+        int likes = Math.min(likesPerPost, users);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (long postId = 1; postId <= posts; postId++) {
+            Set<Integer> likers = new LinkedHashSet<>();
+            while (likers.size() < likes) {
+                likers.add(1 + random.nextInt(users));
+            }
+            for (int userId : likers) {
+                rows.add(new Object[]{createdAt, userId, postId});
+                flushIfFull(rows, sql);
+            }
+        }
+        flush(rows, sql);
+    }
+
+    private void flushIfFull(List<Object[]> rows, String sql) {
+        if (rows.size() >= BATCH_SIZE) {
+            flush(rows, sql);
+        }
+    }
+
+    private void flush(List<Object[]> rows, String sql) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+
+    private void restartIdentity(String table, String column) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + (maxId(table, column) + 1));
+    }
+
+    // IdBlockAllocator는 next_val부터 ID를 내주므로 최대 ID 다음 값으로 옮김
+    private void advanceIdGenerator(String table, String column) {
+        jdbcTemplate.update("UPDATE Id_Generators SET next_val = ? WHERE sequence_name = ?",
+                maxId(table, column) + 1, table);
+    }
+
+    private long maxId(String table, String column) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table, Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+}
@@ -0,0 +1,27 @@
+package kakao.community_backend.loadtest;
+
+// 혼합 부하의 작업 종류 (key는 loadtest.weight.<key> 설정 이름, endpoint는 보고서 표시용)
+enum LoadTestOperation {
+    FEED("feed", "GET /posts"),
+    DETAIL("detail", "GET /posts/{postId}"),
+    COMMENTS("comments", "GET /posts/{postId}/comments"),
+    COMMENT_CREATE("comment-create", "POST /posts/{postId}/comments"),
+    LIKE("like", "POST /posts/{postId}/like"),
+    LOGIN("login", "POST /users/login");
+
+    private final String key;
+    private final String endpoint;
+
+    LoadTestOperation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+}
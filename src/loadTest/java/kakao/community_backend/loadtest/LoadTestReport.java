@@ -0,0 +1,58 @@
+package kakao.community_backend.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 부하 테스트 결과 (build/reports/loadtest/results.json 으로 저장되고 기준 결과로도 사용)
+public record LoadTestReport(int concurrency, double measuredSeconds, long requests, long errors,
+                             double throughput, List<EndpointStats> endpoints) {
+
+    double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    // 기준 결과 대비 허용 범위를 넘은 항목 (기준에 없는 엔드포인트는 비교하지 않음)
+    List<String> regressionsAgainst(LoadTestReport baseline, LoadTestSettings settings) {
+        List<String> regressions = new ArrayList<>();
+
+        double minThroughput = baseline.throughput() * (1 - settings.maxThroughputRegression());
+        if (throughput < minThroughput) {
+            regressions.add(String.format("전체 처리량 %.1f req/s < 기준 %.1f req/s의 %.0f%%",
+                    throughput, baseline.throughput(), (1 - settings.maxThroughputRegression()) * 100));
+        }
+
+        Map<String, EndpointStats> current = endpoints.stream()
+                .collect(Collectors.toMap(EndpointStats::endpoint, Function.identity()));
+        double maxRatio = 1 + settings.maxLatencyRegression();
+        for (EndpointStats base : baseline.endpoints()) {
+            EndpointStats stats = current.get(base.endpoint());
+            if (stats == null || stats.requests() == 0) {
+                continue;
+            }
+            if (stats.p95Millis() > base.p95Millis() * maxRatio) {
+                regressions.add(String.format("%s p95 %.2fms > 기준 %.2fms", base.endpoint(), stats.p95Millis(), base.p95Millis()));
+            }
+            if (stats.p99Millis() > base.p99Millis() * maxRatio) {
+                regressions.add(String.format("%s p99 %.2fms > 기준 %.2fms", base.endpoint(), stats.p99Millis(), base.p99Millis()));
+            }
+        }
+        return regressions;
+    }
+
+    String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n동시 사용자 %d명, 측정 %.0f초, 요청 %d건, 오류 %d건, 처리량 %.1f req/s%n",
+                concurrency, measuredSeconds, requests, errors, throughput));
+        table.append(String.format("%-32s %9s %7s %10s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)"));
+        for (EndpointStats stats : endpoints) {
+            table.append(String.format("%-32s %9d %7d %10.1f %9.2f %9.2f %9.2f%n",
+                    stats.endpoint(), stats.requests(), stats.errors(), stats.throughput(),
+                    stats.p50Millis(), stats.p95Millis(), stats.p99Millis()));
+        }
+        return table.toString();
+    }
+}
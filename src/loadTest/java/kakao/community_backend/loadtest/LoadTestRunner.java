@@ -0,0 +1,198 @@
+package kakao.community_backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 동시 가상 사용자가 설정된 비중에 따라 작업을 골라 쉬지 않고 요청을 보냄 (closed-loop)
+// 워밍업 구간의 요청은 기록하지 않음
+class LoadTestRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final LoadTestOperation[] operations;
+    private final int[] cumulativeWeights;
+
+    LoadTestRunner(String baseUrl, LoadTestSettings settings, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+
+        this.operations = LoadTestOperation.values();
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += settings.weights().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("작업 비중(loadtest.weight.*)의 합이 0입니다");
+        }
+    }
+
+    LoadTestReport run() throws InterruptedException, ExecutionException {
+        long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+        long deadline = measureFrom + settings.duration().toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.concurrency());
+        List<Future<Map<LoadTestOperation, LatencyRecorder>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                futures.add(executor.submit(() -> runVirtualUser(measureFrom, deadline)));
+            }
+
+            Map<LoadTestOperation, LatencyRecorder> merged = new EnumMap<>(LoadTestOperation.class);
+            for (Future<Map<LoadTestOperation, LatencyRecorder>> future : futures) {
+                future.get().forEach((operation, recorder) ->
+                        merged.computeIfAbsent(operation, key -> new LatencyRecorder()).addAll(recorder));
+            }
+            return buildReport(merged);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<LoadTestOperation, LatencyRecorder> runVirtualUser(long measureFrom, long deadline) {
+        Map<LoadTestOperation, LatencyRecorder> recorders = new EnumMap<>(LoadTestOperation.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long userId = 1 + random.nextInt(settings.users());
+        String token = login(userId);
+
+        while (System.nanoTime() < deadline) {
+            LoadTestOperation operation = pickOperation(random);
+            long start = System.nanoTime();
+            boolean success;
+            if (operation == LoadTestOperation.LOGIN) {
+                String refreshed = login(userId);
+                success = refreshed != null;
+                token = refreshed != null ? refreshed : token;
+            } else {
+                success = send(buildRequest(operation, token, random));
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (start >= measureFrom && start < deadline) {
+                recorders.computeIfAbsent(operation, key -> new LatencyRecorder()).record(elapsed, success);
+            }
+        }
+        return recorders;
+    }
+
+    private LoadTestOperation pickOperation(ThreadLocalRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private HttpRequest buildRequest(LoadTestOperation operation, String token, ThreadLocalRandom random) {
+        long postId = pickPostId(random);
+        return switch (operation) {
+            // 대부분 첫 페이지, 가끔 뒤쪽 페이지
+            case FEED -> get("/posts?page=" + (1 + (int) (5 * Math.pow(random.nextDouble(), 3))) + "&size=10");
+            case DETAIL -> get("/posts/" + postId);
+            case COMMENTS -> get("/posts/" + postId + "/comments");
+            case COMMENT_CREATE -> post("/posts/" + postId + "/comments", token,
+                    "{\"content\": \"부하 테스트 댓글입니다\"}");
+            case LIKE -> post("/posts/" + postId + "/like", token, null);
+            case LOGIN -> throw new IllegalStateException("로그인은 login()으로 처리");
+        };
+    }
+
+    // 최신 게시글에 요청이 몰리도록 치우친 분포 (ID가 클수록 최신)
+    private long pickPostId(ThreadLocalRandom random) {
+        long offset = (long) (settings.posts() * Math.pow(random.nextDouble(), 3));
+        return Math.max(1, settings.posts() - offset);
+    }
+
+    private String login(long userId) {
+        String body = "{\"email\": \"" + LoadTestDataSeeder.email(userId) + "\", \"password\": \"" + settings.password() + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/users/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            return objectMapper.readTree(response.body()).path("data").path("token").asText(null);
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private boolean send(HttpRequest request) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token);
+        if (json == null) {
+            return builder.POST(HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private LoadTestReport buildReport(Map<LoadTestOperation, LatencyRecorder> recorders) {
+        double seconds = settings.duration().toMillis() / 1000.0;
+        List<EndpointStats> endpoints = new ArrayList<>();
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<LoadTestOperation, LatencyRecorder> entry : recorders.entrySet()) {
+            EndpointStats stats = entry.getValue().toStats(entry.getKey().getEndpoint(), seconds);
+            endpoints.add(stats);
+            requests += stats.requests();
+            errors += stats.errors();
+        }
+        return new LoadTestReport(settings.concurrency(), seconds, requests, errors, requests / seconds, endpoints);
+    }
+}
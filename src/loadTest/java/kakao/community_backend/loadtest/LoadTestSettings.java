@@ -0,0 +1,51 @@
+package kakao.community_backend.loadtest;
+
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 부하 테스트 설정 (application-loadtest.properties, -Ploadtest.* 로 덮어쓰기 가능)
+record LoadTestSettings(
+        int users,
+        int posts,
+        int commentsPerPost,
+        int likesPerPost,
+        String password,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<LoadTestOperation, Integer> weights,
+        double maxLatencyRegression,
+        double maxThroughputRegression,
+        double maxErrorRate,
+        Path reportFile,
+        Path baselineFile,
+        boolean updateBaseline) {
+
+    static LoadTestSettings from(Environment env) {
+        Map<LoadTestOperation, Integer> weights = new EnumMap<>(LoadTestOperation.class);
+        for (LoadTestOperation operation : LoadTestOperation.values()) {
+            weights.put(operation, env.getProperty("loadtest.weight." + operation.getKey(), Integer.class, 0));
+        }
+
+        return new LoadTestSettings(
+                env.getRequiredProperty("loadtest.seed.users", Integer.class),
+                env.getRequiredProperty("loadtest.seed.posts", Integer.class),
+                env.getRequiredProperty("loadtest.seed.comments-per-post", Integer.class),
+                env.getRequiredProperty("loadtest.seed.likes-per-post", Integer.class),
+                env.getRequiredProperty("loadtest.seed.password"),
+                env.getRequiredProperty("loadtest.concurrency", Integer.class),
+                Duration.ofSeconds(env.getRequiredProperty("loadtest.warmup-seconds", Long.class)),
+                Duration.ofSeconds(env.getRequiredProperty("loadtest.duration-seconds", Long.class)),
+                weights,
+                env.getRequiredProperty("loadtest.max-latency-regression", Double.class),
+                env.getRequiredProperty("loadtest.max-throughput-regression", Double.class),
+                env.getRequiredProperty("loadtest.max-error-rate", Double.class),
+                Path.of(env.getProperty("loadtest.report-file", "build/reports/loadtest/results.json")),
+                Path.of(env.getProperty("loadtest.baseline-file", "loadtest-baseline.json")),
+                env.getProperty("loadtest.update-baseline", Boolean.class, false));
+    }
+}
@@ -0,0 +1,71 @@
+package kakao.community_backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 시드 데이터를 적재한 뒤 혼합 부하를 걸고, 기준 결과(loadtest-baseline.json) 대비 회귀가 있으면 실패
+// 기준 결과가 없어도 실패 (비교 없이 통과하면 회귀를 놓치므로)
+// 기준 결과 갱신: ./gradlew loadTest -Ploadtest.update-baseline=true
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class MixedWorkloadLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void mixedWorkloadStaysWithinBaseline() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.from(environment);
+        new LoadTestDataSeeder(jdbcTemplate, passwordEncoder).seed(settings);
+
+        LoadTestReport report = new LoadTestRunner("http://localhost:" + port, settings, objectMapper).run();
+        System.out.println(report.toTable());
+
+        Files.createDirectories(settings.reportFile().toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(settings.reportFile().toFile(), report);
+
+        List<String> violations = new ArrayList<>();
+        if (report.errorRate() > settings.maxErrorRate()) {
+            violations.add(String.format("오류율 %.2f%% > 허용 %.2f%%", report.errorRate() * 100, settings.maxErrorRate() * 100));
+        }
+
+        if (settings.updateBaseline()) {
+            Files.copy(settings.reportFile(), settings.baselineFile(), StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("기준 결과 갱신: " + settings.baselineFile());
+        } else if (Files.exists(settings.baselineFile())) {
+            LoadTestReport baseline = objectMapper.readValue(settings.baselineFile().toFile(), LoadTestReport.class);
+            violations.addAll(report.regressionsAgainst(baseline, settings));
+        } else {
+            violations.add("기준 결과가 없습니다: " + settings.baselineFile()
+                    + " (-Ploadtest.update-baseline=true로 먼저 생성)");
+        }
+
+        assertThat(violations).as("기준 결과 대비 성능 회귀").isEmpty();
+    }
+}
@@ -2,8 +2,10 @@ package kakao.community_backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CommunityBackendApplication {
 
 	public static void main(String[] args) {
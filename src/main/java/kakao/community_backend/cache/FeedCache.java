@@ -0,0 +1,191 @@
+// FeedCache.java
+package kakao.community_backend.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kakao.community_backend.dto.PostDto;
+import kakao.community_backend.event.CommentChangedEvent;
+import kakao.community_backend.event.PostChangedEvent;
+import kakao.community_backend.event.PostLikedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+// 게시글 목록 앞쪽 페이지 캐시 (크기/TTL 기반 제거, 게시글/좋아요/댓글 이벤트로 무효화 또는 갱신)
+@Component
+public class FeedCache {
+
+    private static final String POPULAR = "popular";
+
+    private final int maxEntries;
+    private final int maxPages;
+    private final long ttlMillis;
+
+    // 접근 순서 기준 LRU
+    private final LinkedHashMap<CacheKey, CacheEntry> entries;
+
+    // 이벤트가 반영될 때마다 증가 - 이벤트 이전에 읽은 데이터가 캐시에 들어가는 것을 막음
+    // 모든 정렬에 영향을 주는 이벤트는 generation을, 특정 정렬에만 영향을 주는 이벤트는 sortGenerations를 올림
+    private long generation;
+    private final Map<String, Long> sortGenerations = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public FeedCache(MeterRegistry meterRegistry,
+                     @Value("${feed.cache.max-entries:64}") int maxEntries,
+                     @Value("${feed.cache.max-pages:3}") int maxPages,
+                     @Value("${feed.cache.ttl-ms:10000}") long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.maxPages = maxPages;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                if (size() > FeedCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        // 적중/실패/제거 통계는 지표로만 노출 (/actuator/prometheus)
+        registerCounter(meterRegistry, "feed.cache.requests", "result", "hit", hits);
+        registerCounter(meterRegistry, "feed.cache.requests", "result", "miss", misses);
+        registerCounter(meterRegistry, "feed.cache.removals", "cause", "eviction", evictions);
+        registerCounter(meterRegistry, "feed.cache.removals", "cause", "expiration", expirations);
+        registerCounter(meterRegistry, "feed.cache.removals", "cause", "invalidation", invalidations);
+        Gauge.builder("feed.cache.size", this, FeedCache::size)
+                .description("게시글 목록 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    // 캐시 대상 페이지인지 확인 (앞쪽 N 페이지만 캐시)
+    public boolean isCacheable(int page) {
+        return page >= 0 && page < maxPages;
+    }
+
+    // 캐시된 페이지 반환, 없으면 loader로 조회 후 캐시
+    public Page<PostDto> getOrLoad(String sort, int page, int size, Supplier<Page<PostDto>> loader) {
+        CacheKey key = new CacheKey(sort, page, size);
+        long loadGeneration;
+
+        synchronized (this) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() > System.currentTimeMillis()) {
+                    hits.increment();
+                    return entry.page();
+                }
+                entries.remove(key);
+                expirations.increment();
+            }
+            loadGeneration = generationOf(sort);
+        }
+
+        misses.increment();
+        Page<PostDto> loaded = loader.get();
+
+        synchronized (this) {
+            if (generationOf(sort) == loadGeneration) {
+                entries.put(key, new CacheEntry(loaded, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+        return loaded;
+    }
+
+    // 게시글 작성/수정/삭제 시 순서와 내용이 모두 바뀔 수 있으므로 전체 무효화
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        invalidateAll();
+    }
+
+    // 좋아요 변경 시 좋아요순 페이지는 다른 게시글의 순위도 바뀔 수 있으므로 모두 제거하고,
+    // 최신순 페이지는 좋아요 수만 갱신 (진행 중인 최신순 조회는 그대로 캐시되어 TTL 동안 이전 좋아요 수가 보일 수 있음)
+    @TransactionalEventListener
+    public synchronized void onPostLiked(PostLikedEvent event) {
+        sortGenerations.merge(POPULAR, 1L, Long::sum);
+        for (Map.Entry<CacheKey, CacheEntry> entry : entries.entrySet()) {
+            if (!POPULAR.equals(entry.getKey().sort()) && containsPost(entry.getValue().page(), event.getPostId())) {
+                entry.setValue(patch(entry.getValue(), event.getPostId(),
+                        post -> post.toBuilder().likeCount(event.getLikeCount()).build()));
+            }
+        }
+        int before = entries.size();
+        entries.keySet().removeIf(key -> POPULAR.equals(key.sort()));
+        invalidations.add(before - entries.size());
+    }
+
+    // 댓글 작성/삭제 시 댓글 수만 갱신 (목록 순서에는 영향 없음)
+    @TransactionalEventListener
+    public synchronized void onCommentChanged(CommentChangedEvent event) {
+        generation++;
+        int delta = event.getType() == CommentChangedEvent.Type.CREATED ? 1 : -1;
+        for (Map.Entry<CacheKey, CacheEntry> entry : entries.entrySet()) {
+            if (containsPost(entry.getValue().page(), event.getPostId())) {
+                entry.setValue(patch(entry.getValue(), event.getPostId(),
+                        post -> post.toBuilder().commentCount(post.getCommentCount() + delta).build()));
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations.add(entries.size());
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static void registerCounter(MeterRegistry meterRegistry, String name,
+                                        String tagKey, String tagValue, LongAdder adder) {
+        FunctionCounter.builder(name, adder, LongAdder::sum)
+                .tag(tagKey, tagValue)
+                .register(meterRegistry);
+    }
+
+    private long generationOf(String sort) {
+        return generation + sortGenerations.getOrDefault(sort, 0L);
+    }
+
+    private boolean containsPost(Page<PostDto> page, Long postId) {
+        for (PostDto post : page.getContent()) {
+            if (post.getPostId().equals(postId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 캐시된 페이지는 여러 요청이 공유하므로 수정하지 않고 복사본으로 교체
+    private CacheEntry patch(CacheEntry entry, Long postId, UnaryOperator<PostDto> updater) {
+        Page<PostDto> page = entry.page();
+        List<PostDto> content = page.getContent().stream()
+                .map(post -> post.getPostId().equals(postId) ? updater.apply(post) : post)
+                .toList();
+        return new CacheEntry(new PageImpl<>(content, page.getPageable(), page.getTotalElements()), entry.expiresAt());
+    }
+
+    private record CacheKey(String sort, int page, int size) {
+    }
+
+    private record CacheEntry(Page<PostDto> page, long expiresAt) {
+    }
+}
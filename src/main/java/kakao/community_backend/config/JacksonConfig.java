@@ -0,0 +1,16 @@
+// JacksonConfig.java
+package kakao.community_backend.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // Spring Boot가 ObjectMapper에 자동 등록 (getter/record 접근자를 리플렉션 없이 호출)
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
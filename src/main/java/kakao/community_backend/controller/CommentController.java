@@ -6,16 +6,18 @@ import jakarta.validation.Valid;
 import kakao.community_backend.dto.ApiResponse;
 import kakao.community_backend.dto.CommentCreateRequest;
 import kakao.community_backend.dto.CommentDto;
+import kakao.community_backend.dto.CommentIdResponse;
 import kakao.community_backend.dto.CommentUpdateRequest;
+import kakao.community_backend.dto.CursorSlice;
+import kakao.community_backend.dto.PageResponse;
 import kakao.community_backend.service.CommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.HashMap;
-import java.util.Map;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,29 +26,38 @@ public class CommentController {
     private final CommentService commentService;
 
     @GetMapping("/posts/{postId}/comments")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getCommentsByPostId(
+    public ResponseEntity<ApiResponse<?>> getCommentsByPostId(
             @PathVariable Long postId,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+
+        // 댓글 버전과 페이지 조건으로 ETag를 만들어 변경이 없으면 목록을 조회하지 않고 304
+        // 커서는 클라이언트가 보낸 임의의 문자열이라 그대로 넣지 않고 해시값만 사용
+        // (ETag는 같은 URL끼리만 비교되므로 해시 충돌이 다른 페이지로 이어지지 않음)
+        String etag = "W/\"c" + postId + "-" + commentService.getCommentsVersion(postId)
+                + "-" + (cursor != null ? "k" + Integer.toHexString(cursor.hashCode()) : page) + "-" + size + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        // cursor 파라미터가 있으면 커서 기반 페이지네이션 (빈 값이면 첫 페이지)
+        if (cursor != null) {
+            CursorSlice<CommentDto> comments = commentService.getCommentsByCursor(postId, cursor, size);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(ApiResponse.success(200, "댓글 목록 조회 성공", comments));
+        }
 
         Page<CommentDto> comments = commentService.getCommentsByPostId(postId, page - 1, size);
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("content", comments.getContent());
-
-        Map<String, Object> pageable = new HashMap<>();
-        pageable.put("page", page);
-        pageable.put("size", size);
-        pageable.put("totalElements", comments.getTotalElements());
-        pageable.put("totalPages", comments.getTotalPages());
-
-        response.put("pageable", pageable);
-
-        return ResponseEntity.ok(ApiResponse.success(200, "댓글 목록 조회 성공", response));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(200, "댓글 목록 조회 성공", PageResponse.of(comments, page, size)));
     }
 
     @PostMapping("/posts/{postId}/comments")
-    public ResponseEntity<ApiResponse<Map<String, Long>>> createComment(
+    public ResponseEntity<ApiResponse<CommentIdResponse>> createComment(
             HttpServletRequest request,
             @PathVariable Long postId,
             @Valid @RequestBody CommentCreateRequest commentRequest) {
@@ -54,15 +65,12 @@ public class CommentController {
         Long userId = (Long) request.getAttribute("userId");
         Long commentId = commentService.createComment(userId, postId, commentRequest.getContent());
 
-        Map<String, Long> result = new HashMap<>();
-        result.put("commentId", commentId);
-
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success(201, "댓글 작성 성공", result));
+                .body(ApiResponse.success(201, "댓글 작성 성공", new CommentIdResponse(commentId)));
     }
 
     @PutMapping("/comments/{commentId}")
-    public ResponseEntity<ApiResponse<Map<String, Long>>> updateComment(
+    public ResponseEntity<ApiResponse<CommentIdResponse>> updateComment(
             HttpServletRequest request,
             @PathVariable Long commentId,
             @Valid @RequestBody CommentUpdateRequest commentRequest) {
@@ -70,10 +78,7 @@ public class CommentController {
         Long userId = (Long) request.getAttribute("userId");
         commentService.updateComment(userId, commentId, commentRequest.getContent());
 
-        Map<String, Long> result = new HashMap<>();
-        result.put("commentId", commentId);
-
-        return ResponseEntity.ok(ApiResponse.success(200, "댓글 수정 성공", result));
+        return ResponseEntity.ok(ApiResponse.success(200, "댓글 수정 성공", new CommentIdResponse(commentId)));
     }
 
     @DeleteMapping("/comments/{commentId}")
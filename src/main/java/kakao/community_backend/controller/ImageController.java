@@ -0,0 +1,50 @@
+package kakao.community_backend.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kakao.community_backend.storage.ImageFileSender;
+import kakao.community_backend.storage.ImageStorageService;
+import kakao.community_backend.storage.ImageVariantService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@RestController
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final ImageStorageService imageStorageService;
+    private final ImageVariantService imageVariantService;
+    private final ImageFileSender imageFileSender;
+
+    // 응답 본문을 직접 전송 (힙을 거치지 않도록 리소스 변환을 사용하지 않음)
+    @GetMapping("/uploads/{filename}")
+    public void getImage(@PathVariable String filename,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        Path path = imageStorageService.resolve(filename);
+        if (path == null || !Files.isRegularFile(path)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        imageFileSender.send(path, filename, request, response);
+    }
+
+    // 썸네일 등 크기 변형 (파일명은 원본 해시 + 변형 이름)
+    @GetMapping("/uploads/variants/{filename}")
+    public void getImageVariant(@PathVariable String filename,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        Path path = imageVariantService.resolve(filename);
+        if (path == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        imageFileSender.send(path, filename, request, response);
+    }
+}
@@ -1,13 +1,13 @@
 package kakao.community_backend.controller;
 
+import kakao.community_backend.dto.LikeCountResponse;
+import kakao.community_backend.dto.LikeStatusResponse;
+import kakao.community_backend.dto.LikeToggleResult;
 import kakao.community_backend.service.LikeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @RestController
 @RequestMapping("/api/likes")
 @RequiredArgsConstructor
@@ -16,34 +16,23 @@ public class LikeController {
     private final LikeService likeService;
 
     @GetMapping("/check")
-    public ResponseEntity<Map<String, Boolean>> checkLikeStatus(
+    public ResponseEntity<LikeStatusResponse> checkLikeStatus(
             @RequestParam Long postId,
             @RequestParam Long userId) {
         boolean isLiked = likeService.isLikedByUser(postId, userId);
-        Map<String, Boolean> response = new HashMap<>();
-        response.put("liked", isLiked);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new LikeStatusResponse(isLiked));
     }
 
     @PostMapping("/toggle")
-    public ResponseEntity<Map<String, Object>> toggleLike(
+    public ResponseEntity<LikeToggleResult> toggleLike(
             @RequestParam Long postId,
             @RequestParam Long userId) {
-        boolean isLiked = likeService.toggleLike(postId, userId);
-        int likeCount = likeService.getLikeCount(postId);
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("liked", isLiked);
-        response.put("likeCount", likeCount);
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(likeService.toggleLike(postId, userId));
     }
 
     @GetMapping("/count")
-    public ResponseEntity<Map<String, Integer>> getLikeCount(@RequestParam Long postId) {
+    public ResponseEntity<LikeCountResponse> getLikeCount(@RequestParam Long postId) {
         int likeCount = likeService.getLikeCount(postId);
-        Map<String, Integer> response = new HashMap<>();
-        response.put("likeCount", likeCount);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new LikeCountResponse(likeCount));
     }
 }
\ No newline at end of file
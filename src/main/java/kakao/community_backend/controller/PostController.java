@@ -4,104 +4,150 @@ package kakao.community_backend.controller;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import kakao.community_backend.dto.ApiResponse;
+import kakao.community_backend.dto.CursorSlice;
+import kakao.community_backend.dto.LikeToggleResult;
+import kakao.community_backend.dto.PageResponse;
+import kakao.community_backend.dto.PostBatchResult;
 //import kakao.community_backend.dto.PostCreateRequest;
 import kakao.community_backend.dto.PostDto;
+import kakao.community_backend.dto.PostIdResponse;
 //import kakao.community_backend.dto.PostUpdateRequest;
 import kakao.community_backend.service.PostService;
+import kakao.community_backend.storage.ChunkedUploadService;
+import kakao.community_backend.storage.ImageStorageService;
+import kakao.community_backend.storage.StoredImage;
+import kakao.community_backend.storage.UnusedImageCleaner;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
 public class PostController {
 
     private final PostService postService;
+    private final ImageStorageService imageStorageService;
+    private final ChunkedUploadService chunkedUploadService;
+    private final UnusedImageCleaner unusedImageCleaner;
 
     @GetMapping("/posts")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getAllPosts(
+    public ResponseEntity<ApiResponse<?>> getAllPosts(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "latest") String sort) {
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor) {
 
-        Page<PostDto> posts = postService.getAllPosts(page - 1, size, sort);
+        // cursor 파라미터가 있으면 커서 기반 페이지네이션 (빈 값이면 첫 페이지)
+        if (cursor != null) {
+            CursorSlice<PostDto> posts = postService.getPostsByCursor(cursor, size, sort);
+            return ResponseEntity.ok(ApiResponse.success(200, "게시글 목록 조회 성공", posts));
+        }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("content", posts.getContent());
+        Page<PostDto> posts = postService.getAllPosts(page - 1, size, sort);
+        return ResponseEntity.ok(ApiResponse.success(200, "게시글 목록 조회 성공", PageResponse.of(posts, page, size)));
+    }
 
-        Map<String, Object> pageable = new HashMap<>();
-        pageable.put("page", page);
-        pageable.put("size", size);
-        pageable.put("totalElements", posts.getTotalElements());
-        pageable.put("totalPages", posts.getTotalPages());
+    // 여러 게시글 일괄 조회 (GET /posts?ids=3,1,2, 요청한 순서 유지)
+    @GetMapping(value = "/posts", params = "ids")
+    public ResponseEntity<ApiResponse<PostBatchResult>> getPostsByIds(@RequestParam List<Long> ids) {
+        PostBatchResult result = postService.getPostsByIds(ids);
+        return ResponseEntity.ok(ApiResponse.success(200, "게시글 일괄 조회 성공", result));
+    }
 
-        response.put("pageable", pageable);
+    // 제목/본문 검색 (관련도 순)
+    @GetMapping("/posts/search")
+    public ResponseEntity<ApiResponse<PageResponse<PostDto>>> searchPosts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
 
-        return ResponseEntity.ok(ApiResponse.success(200, "게시글 목록 조회 성공", response));
+        Page<PostDto> posts = postService.searchPosts(q, page - 1, size);
+        return ResponseEntity.ok(ApiResponse.success(200, "게시글 검색 성공", PageResponse.of(posts, page, size)));
     }
 
     @GetMapping("/posts/{postId}")
-    public ResponseEntity<ApiResponse<PostDto>> getPostById(@PathVariable Long postId) {
+    public ResponseEntity<ApiResponse<PostDto>> getPostById(@PathVariable Long postId, WebRequest webRequest) {
+        // 버전 정보만 조회해 변경이 없으면 DTO를 만들지 않고 304 (재검증은 조회수에 포함하지 않음)
+        String version = postService.getPostVersion(postId);
+        if (version != null && webRequest.checkNotModified("W/\"p" + postId + "-" + version + "\"")) {
+            return null;
+        }
+
         PostDto post = postService.getPostById(postId);
-        return ResponseEntity.ok(ApiResponse.success(200, "게시글 상세 조회 성공", post));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(200, "게시글 상세 조회 성공", post));
     }
 
     @PostMapping(value = "/posts", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<Map<String, Long>>> createPost(
+    public ResponseEntity<ApiResponse<PostIdResponse>> createPost(
             HttpServletRequest request,
             @RequestParam String title,
             @RequestParam String content,
-            @RequestParam(required = false) List<MultipartFile> images) {
-
-        // 사용자 ID 확인 및 디버깅
-        Long userId = (Long) request.getAttribute("userId");
-        System.out.println("PostController - User ID from request attribute: " + userId);
-
-        // 토큰이 있는지 확인
-        String authHeader = request.getHeader("Authorization");
-        System.out.println("PostController - Auth Header: " + authHeader);
+            @RequestParam(required = false) List<MultipartFile> images,
+            @RequestParam(required = false) List<String> uploadIds) {
 
         // userId가 null이면 에러 응답
+        Long userId = (Long) request.getAttribute("userId");
         if (userId == null) {
-            Map<String, Long> errorResult = new HashMap<>();
-            errorResult.put("error", 1L);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(ApiResponse.error(401, "인증에 실패했습니다. 사용자 ID가 없습니다.", errorResult));
+                    .body(ApiResponse.error(401, "인증에 실패했습니다. 사용자 ID가 없습니다."));
         }
 
-        Long postId = postService.createPost(userId, title, content, images);
-
-        Map<String, Long> result = new HashMap<>();
-        result.put("postId", postId);
+        // 이미지는 트랜잭션 밖에서 먼저 저장 (DB 커넥션을 잡은 채 파일을 복사하지 않음)
+        // 분할 업로드로 올린 이미지는 uploadIds로 전달 (multipart 이미지 뒤에 추가)
+        // 게시글 저장이 실패하면 이번 요청이 새로 만든 파일은 정리 대상으로 넘김
+        List<StoredImage> storedImages = imageStorageService.storeAll(images);
+        Long postId;
+        try {
+            List<String> imageUrls = urlsOf(storedImages);
+            imageUrls.addAll(chunkedUploadService.getCommittedUrls(userId, uploadIds));
+            postId = postService.createPost(userId, title, content, imageUrls);
+        } catch (RuntimeException e) {
+            unusedImageCleaner.discard(storedImages);
+            throw e;
+        }
+        chunkedUploadService.release(uploadIds);
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success(201, "게시글 작성 성공", result));
+                .body(ApiResponse.success(201, "게시글 작성 성공", new PostIdResponse(postId)));
     }
 
     @PutMapping(value = "/posts/{postId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<Map<String, Long>>> updatePost(
+    public ResponseEntity<ApiResponse<PostIdResponse>> updatePost(
             HttpServletRequest request,
             @PathVariable Long postId,
             @RequestParam String title,
             @RequestParam String content,
             @RequestParam(required = false) List<MultipartFile> images,
-            @RequestParam(required = false) List<Long> deleteImageIds) {
+            @RequestParam(required = false) List<Long> deleteImageIds,
+            @RequestParam(required = false) List<String> uploadIds) {
 
         Long userId = (Long) request.getAttribute("userId");
-        postService.updatePost(userId, postId, title, content, images, deleteImageIds);
-
-        Map<String, Long> result = new HashMap<>();
-        result.put("postId", postId);
+        // 다른 사람의 게시글이면 파일을 디스크에 쓰기 전에 거절
+        postService.checkEditable(userId, postId);
+
+        List<StoredImage> storedImages = imageStorageService.storeAll(images);
+        try {
+            List<String> imageUrls = urlsOf(storedImages);
+            imageUrls.addAll(chunkedUploadService.getCommittedUrls(userId, uploadIds));
+            postService.updatePost(userId, postId, title, content, imageUrls, deleteImageIds);
+        } catch (RuntimeException e) {
+            unusedImageCleaner.discard(storedImages);
+            throw e;
+        }
+        chunkedUploadService.release(uploadIds);
 
-        return ResponseEntity.ok(ApiResponse.success(200, "게시글 수정 성공", result));
+        return ResponseEntity.ok(ApiResponse.success(200, "게시글 수정 성공", new PostIdResponse(postId)));
     }
 
     @DeleteMapping("/posts/{postId}")
@@ -116,18 +162,22 @@ public class PostController {
     }
 
     @PostMapping("/posts/{postId}/like")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> likePost(
+    public ResponseEntity<ApiResponse<LikeToggleResult>> likePost(
             HttpServletRequest request,
             @PathVariable Long postId) {
 
         Long userId = (Long) request.getAttribute("userId");
-        boolean liked = postService.toggleLike(userId, postId);
-        int likeCount = postService.getLikeCount(postId);
+        LikeToggleResult result = postService.toggleLike(userId, postId);
 
-        Map<String, Object> result = new HashMap<>();
-        result.put("liked", liked);
-        result.put("likeCount", likeCount);
+        return ResponseEntity.ok(ApiResponse.success(200, result.isLiked() ? "좋아요 성공" : "좋아요 취소 성공", result));
+    }
 
-        return ResponseEntity.ok(ApiResponse.success(200, liked ? "좋아요 성공" : "좋아요 취소 성공", result));
+    // 분할 업로드 URL을 뒤에 덧붙이므로 수정 가능한 목록으로 반환
+    private List<String> urlsOf(List<StoredImage> storedImages) {
+        List<String> urls = new ArrayList<>(storedImages.size());
+        for (StoredImage storedImage : storedImages) {
+            urls.add(storedImage.getUrl());
+        }
+        return urls;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+// UploadController.java
+package kakao.community_backend.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import kakao.community_backend.dto.ApiResponse;
+import kakao.community_backend.dto.UploadSessionCreateRequest;
+import kakao.community_backend.dto.UploadSessionDto;
+import kakao.community_backend.storage.ChunkedUploadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+// 분할 업로드: 세션 시작 -> 청크 전송(PUT, 실패한 청크만 재전송) -> 완료
+// 완료된 uploadId를 게시글 작성/수정 요청의 uploadIds로 전달
+@RestController
+@RequiredArgsConstructor
+public class UploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    @PostMapping("/upload-sessions")
+    public ResponseEntity<ApiResponse<UploadSessionDto>> startUpload(
+            HttpServletRequest request,
+            @Valid @RequestBody UploadSessionCreateRequest uploadRequest) {
+
+        Long userId = (Long) request.getAttribute("userId");
+        UploadSessionDto session = chunkedUploadService.start(
+                userId, uploadRequest.getFilename(), uploadRequest.getTotalSize());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(201, "업로드 시작", session));
+    }
+
+    @GetMapping("/upload-sessions/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadSessionDto>> getUploadStatus(
+            HttpServletRequest request,
+            @PathVariable String uploadId) {
+
+        Long userId = (Long) request.getAttribute("userId");
+        UploadSessionDto session = chunkedUploadService.getStatus(userId, uploadId);
+
+        return ResponseEntity.ok(ApiResponse.success(200, "업로드 상태 조회 성공", session));
+    }
+
+    // 요청 본문은 청크의 바이트 그대로 (multipart 아님)
+    @PutMapping("/upload-sessions/{uploadId}/chunks/{index}")
+    public ResponseEntity<ApiResponse<UploadSessionDto>> uploadChunk(
+            HttpServletRequest request,
+            @PathVariable String uploadId,
+            @PathVariable int index) throws IOException {
+
+        Long userId = (Long) request.getAttribute("userId");
+        UploadSessionDto session = chunkedUploadService.writeChunk(
+                userId, uploadId, index, request.getContentLengthLong(), request.getInputStream());
+
+        return ResponseEntity.ok(ApiResponse.success(200, "청크 업로드 성공", session));
+    }
+
+    @PostMapping("/upload-sessions/{uploadId}/commit")
+    public ResponseEntity<ApiResponse<UploadSessionDto>> commitUpload(
+            HttpServletRequest request,
+            @PathVariable String uploadId) {
+
+        Long userId = (Long) request.getAttribute("userId");
+        UploadSessionDto session = chunkedUploadService.commit(userId, uploadId);
+
+        return ResponseEntity.ok(ApiResponse.success(200, "업로드 완료", session));
+    }
+}
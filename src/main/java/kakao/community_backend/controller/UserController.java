@@ -4,6 +4,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import kakao.community_backend.dto.*;
 import kakao.community_backend.service.UserService;
+import kakao.community_backend.storage.ImageStorageService;
+import kakao.community_backend.storage.StoredImage;
+import kakao.community_backend.storage.UnusedImageCleaner;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -11,11 +14,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class UserController {
 
     private final UserService userService;
+    private final ImageStorageService imageStorageService;
+    private final UnusedImageCleaner unusedImageCleaner;
 
     @PostMapping("/users/signup")
     public ResponseEntity<ApiResponse<UserDto>> signup(@Valid @RequestBody SignupRequest request) {
@@ -51,7 +58,20 @@ public class UserController {
             @RequestParam(required = false) String nickname,
             @RequestParam(required = false) MultipartFile profileImage) {
         Long userId = (Long) request.getAttribute("userId");
-        UserDto updatedUser = userService.updateProfile(userId, nickname, profileImage);
+
+        // 이미지는 트랜잭션 밖에서 먼저 저장 (수정이 실패하면 새로 만든 파일은 정리 대상으로 넘김)
+        StoredImage storedImage = profileImage != null && !profileImage.isEmpty()
+                ? imageStorageService.store(profileImage)
+                : null;
+        UserDto updatedUser;
+        try {
+            updatedUser = userService.updateProfile(userId, nickname, storedImage == null ? null : storedImage.getUrl());
+        } catch (RuntimeException e) {
+            if (storedImage != null) {
+                unusedImageCleaner.discard(List.of(storedImage));
+            }
+            throw e;
+        }
         return ResponseEntity.ok(ApiResponse.success(200, "회원정보 수정 성공", updatedUser));
     }
 
@@ -69,6 +89,15 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(200, "내 정보 조회 성공", userDto));
     }
 
+    // 닉네임 자동완성 (멘션, 사용자 찾기)
+    @GetMapping("/users/autocomplete")
+    public ResponseEntity<ApiResponse<List<UserSummaryDto>>> autocompleteNickname(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<UserSummaryDto> users = userService.autocompleteNickname(prefix, limit);
+        return ResponseEntity.ok(ApiResponse.success(200, "닉네임 자동완성 조회 성공", users));
+    }
+
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<TokenResponse>> refreshToken(@RequestBody TokenRefreshRequest request) {
         String refreshToken = request.getRefreshToken();
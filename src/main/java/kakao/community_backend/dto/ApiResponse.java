@@ -14,27 +14,16 @@ public class ApiResponse<T> {
     private String message;
     private T data;
 
+    // 요청마다 호출되므로 빌더 대신 생성자로 바로 생성
     public static <T> ApiResponse<T> success(int status, String message, T data) {
-        return ApiResponse.<T>builder()
-                .status(status)
-                .message(message)
-                .data(data)
-                .build();
+        return new ApiResponse<>(status, message, data);
     }
 
     public static <T> ApiResponse<T> error(int status, String message) {
-        return ApiResponse.<T>builder()
-                .status(status)
-                .message(message)
-                .data(null)
-                .build();
+        return new ApiResponse<>(status, message, null);
     }
 
     public static <T> ApiResponse<T> error(int status, String message, T data) {
-        return ApiResponse.<T>builder()
-                .status(status)
-                .message(message)
-                .data(data)
-                .build();
+        return new ApiResponse<>(status, message, data);
     }
 }
\ No newline at end of file
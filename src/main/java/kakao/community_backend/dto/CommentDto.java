@@ -17,6 +17,7 @@ public class CommentDto {
     private Long authorId;
     private String authorNickname;
     private String authorProfileImageUrl;
+    private String authorProfileThumbnailUrl; // 썸네일 변형 (생성 전에는 원본)
     private Long postId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
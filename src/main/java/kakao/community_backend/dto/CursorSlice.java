@@ -0,0 +1,18 @@
+package kakao.community_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorSlice<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,15 @@
+package kakao.community_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeToggleResult {
+    private boolean liked;
+    private int likeCount;
+}
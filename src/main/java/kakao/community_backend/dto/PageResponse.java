@@ -0,0 +1,18 @@
+package kakao.community_backend.dto;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+// 페이지 번호 기반 목록 응답 ({"content": [...], "pageable": {...}})
+public record PageResponse<T>(List<T> content, PageInfo pageable) {
+
+    // page는 클라이언트가 보낸 1부터 시작하는 번호
+    public static <T> PageResponse<T> of(Page<T> result, int page, int size) {
+        return new PageResponse<>(result.getContent(),
+                new PageInfo(page, size, result.getTotalElements(), result.getTotalPages()));
+    }
+
+    public record PageInfo(int page, int size, long totalElements, int totalPages) {
+    }
+}
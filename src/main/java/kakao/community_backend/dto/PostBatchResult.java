@@ -0,0 +1,17 @@
+package kakao.community_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostBatchResult {
+    private List<PostDto> posts; // 요청한 ID 순서
+    private List<Long> missingIds; // 없거나 삭제된 게시글 ID
+}
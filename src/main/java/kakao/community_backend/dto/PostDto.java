@@ -6,9 +6,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostDto {
@@ -16,12 +17,15 @@ public class PostDto {
     private String title;
     private String content;
     private String contentImageUrl;
+    private String contentImageFeedUrl; // 피드 너비 변형 (생성 전에는 원본)
+    private List<PostImageDto> images;
     private int viewCount;
     private int likeCount;
     private int commentCount;
     private Long authorId;
     private String authorNickname;
     private String authorProfileImageUrl;
+    private String authorProfileThumbnailUrl;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,4 @@
+package kakao.community_backend.dto;
+
+public record PostIdResponse(Long postId) {
+}
@@ -0,0 +1,16 @@
+package kakao.community_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImageDto {
+    private Long imageId;
+    private String imageUrl;
+    private String thumbnailUrl;
+}
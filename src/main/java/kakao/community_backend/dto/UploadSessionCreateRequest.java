@@ -0,0 +1,15 @@
+// UploadSessionCreateRequest.java
+package kakao.community_backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class UploadSessionCreateRequest {
+    @NotBlank(message = "파일 이름은 필수 항목입니다")
+    private String filename;
+
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private long totalSize;
+}
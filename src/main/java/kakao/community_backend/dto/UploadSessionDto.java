@@ -0,0 +1,22 @@
+package kakao.community_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionDto {
+    private String uploadId;
+    private long totalSize;
+    private int chunkSize;
+    private int totalChunks;
+    private List<Integer> missingChunks; // 재시도가 필요한 청크 번호
+    private boolean committed;
+    private String url; // 완료 후 이미지 URL
+}
@@ -0,0 +1,21 @@
+package kakao.community_backend.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+// Id_Generators 테이블에서 블록 단위로 미리 할당받는 ID (IdBlockAllocator 참고)
+// IDENTITY와 달리 INSERT 전에 ID가 정해지므로 JDBC 배치가 꺼지지 않음
+@IdGeneratorType(BlockIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface BlockAllocatedId {
+
+    // Id_Generators.sequence_name
+    String value();
+}
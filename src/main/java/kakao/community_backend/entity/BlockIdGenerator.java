@@ -0,0 +1,31 @@
+package kakao.community_backend.entity;
+
+import kakao.community_backend.repository.IdBlockAllocator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.lang.reflect.Member;
+
+// @BlockAllocatedId 필드의 ID 생성기
+// hibernate.cdi.extensions=true 설정으로 Spring이 생성하면서 IdBlockAllocator를 주입함
+public class BlockIdGenerator implements IdentifierGenerator, AnnotationBasedGenerator<BlockAllocatedId> {
+
+    private final IdBlockAllocator idBlockAllocator;
+    private String sequenceName;
+
+    public BlockIdGenerator(IdBlockAllocator idBlockAllocator) {
+        this.idBlockAllocator = idBlockAllocator;
+    }
+
+    @Override
+    public void initialize(BlockAllocatedId annotation, Member member, GeneratorCreationContext context) {
+        this.sequenceName = annotation.value();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return idBlockAllocator.next(sequenceName);
+    }
+}
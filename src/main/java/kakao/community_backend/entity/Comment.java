@@ -18,7 +18,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Comment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockAllocatedId("Comments")
     @Column(name = "comment_id")
     private Long commentId;
 
@@ -19,8 +19,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Post {
+    // IDENTITY는 INSERT마다 생성된 키를 받아야 해서 JDBC 배치가 꺼지므로,
+    // Id_Generators 테이블에서 50개씩 미리 할당받아 사용 (IdBlockAllocator, db/id_generators.sql)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockAllocatedId("Posts")
     @Column(name = "post_id")
     private Long postId;
 
@@ -0,0 +1,19 @@
+// CommentChangedEvent.java
+package kakao.community_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 댓글 작성/삭제 이벤트
+@Getter
+@RequiredArgsConstructor
+public class CommentChangedEvent {
+
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    private final Long postId;
+    private final Long commentId;
+    private final Type type;
+}
@@ -0,0 +1,12 @@
+// ImageStoredEvent.java
+package kakao.community_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 업로드된 이미지 원본이 저장소에 저장되었을 때 발행되는 이벤트 (파일명은 내용 해시 + 확장자)
+@Getter
+@RequiredArgsConstructor
+public class ImageStoredEvent {
+    private final String filename;
+}
@@ -0,0 +1,18 @@
+// PostChangedEvent.java
+package kakao.community_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 게시글 작성/수정/삭제 이벤트
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Long postId;
+    private final Type type;
+}
@@ -0,0 +1,14 @@
+// PostLikedEvent.java
+package kakao.community_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 게시글 좋아요 토글 이벤트
+@Getter
+@RequiredArgsConstructor
+public class PostLikedEvent {
+    private final Long postId;
+    private final boolean liked;
+    private final int likeCount;
+}
@@ -0,0 +1,14 @@
+// PostViewsFlushedEvent.java
+package kakao.community_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+// 집계된 조회수가 DB에 반영되었을 때 발행되는 이벤트 (게시글 ID -> 반영된 조회수)
+@Getter
+@RequiredArgsConstructor
+public class PostViewsFlushedEvent {
+    private final Map<Long, Long> viewCounts;
+}
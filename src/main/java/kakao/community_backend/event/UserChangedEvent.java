@@ -0,0 +1,20 @@
+// UserChangedEvent.java
+package kakao.community_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 회원 가입/정보 수정/탈퇴 이벤트 (탈퇴 시 닉네임과 프로필 이미지는 null)
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Long userId;
+    private final Type type;
+    private final String nickname;
+    private final String profileImageUrl;
+}
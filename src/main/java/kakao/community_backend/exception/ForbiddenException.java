@@ -0,0 +1,9 @@
+// ForbiddenException.java
+package kakao.community_backend.exception;
+
+// 다른 사용자의 대상에 접근할 때 사용하는 예외 (403으로 응답)
+public class ForbiddenException extends RuntimeException {
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
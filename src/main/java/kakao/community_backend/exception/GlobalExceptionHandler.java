@@ -2,6 +2,7 @@
 package kakao.community_backend.exception;
 
 import kakao.community_backend.dto.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -23,6 +24,25 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(500, e.getMessage()));
     }
 
+    // 잘못된 요청 파라미터 (커서, 청크 번호 등)
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ApiResponse<String>> handleInvalidRequestException(InvalidRequestException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(400, e.getMessage()));
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ApiResponse<String>> handleResourceNotFoundException(ResourceNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(404, e.getMessage()));
+    }
+
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<ApiResponse<String>> handleForbiddenException(ForbiddenException e) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error(403, e.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<List<Map<String, String>>>> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
@@ -51,5 +71,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(409, "이미 사용 중인 " + ex.getField() + "입니다", error));
     }
 
+    // 처리 용량 초과로 거절된 요청
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<String>> handleServiceUnavailableException(ServiceUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(503, e.getMessage()));
+    }
+
     // 사용자 정의 예외 클래스들에 대한 추가 핸들러들
 }
\ No newline at end of file
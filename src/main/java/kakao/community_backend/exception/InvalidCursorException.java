@@ -0,0 +1,13 @@
+// InvalidCursorException.java
+package kakao.community_backend.exception;
+
+// 페이지네이션 커서나 조회 범위가 올바르지 않을 때 사용하는 예외
+public class InvalidCursorException extends InvalidRequestException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,13 @@
+// InvalidRequestException.java
+package kakao.community_backend.exception;
+
+// 클라이언트가 보낸 요청 값이 올바르지 않을 때 사용하는 예외 (400으로 응답)
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
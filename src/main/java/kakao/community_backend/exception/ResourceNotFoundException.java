@@ -0,0 +1,9 @@
+// ResourceNotFoundException.java
+package kakao.community_backend.exception;
+
+// 요청한 대상이 없을 때 사용하는 예외 (404로 응답)
+public class ResourceNotFoundException extends RuntimeException {
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+// ServiceUnavailableException.java
+package kakao.community_backend.exception;
+
+// 처리 가능한 용량을 넘어 요청을 즉시 거절할 때 사용하는 예외
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
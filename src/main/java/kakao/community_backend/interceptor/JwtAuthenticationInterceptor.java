@@ -8,9 +8,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.util.regex.Pattern;
+
 @Component
 public class JwtAuthenticationInterceptor implements HandlerInterceptor {
 
+    // 인증 없이 접근 가능한 GET 경로 (/posts, /posts/search, /posts/{id}, /posts/{id}/comments, /uploads/**)
+    private static final Pattern PUBLIC_GET_PATTERN =
+            Pattern.compile("^(/posts(/search|/\\d+(/comments)?)?|/uploads/.+)$");
+
+    private static final String UNAUTHORIZED_BODY = "{\"status\": 401, \"message\": \"인증에 실패했습니다\"}";
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -21,39 +29,33 @@ public class JwtAuthenticationInterceptor implements HandlerInterceptor {
             return true;
         }
 
-        String requestURI = request.getRequestURI();
-        String method = request.getMethod();
-
-        // 인증이 필요하지 않은 경로 패턴 정의
-        boolean isPublicGetEndpoint =
-                (method.equals("GET") && (requestURI.matches("/posts") ||
-                        requestURI.matches("/posts/\\d+") ||
-                        requestURI.matches("/posts/\\d+/comments")));
-
-        if (isPublicGetEndpoint) {
+        if (isPublicEndpoint(request.getMethod(), request.getRequestURI())) {
             return true;  // 인증 없이 접근 가능
         }
 
         // 이하 기존 인증 코드
         String authHeader = request.getHeader("Authorization");
-        System.out.println("Authorization Header: " + authHeader);
-
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("{\"status\": 401, \"message\": \"인증에 실패했습니다\"}");
+            response.getWriter().write(UNAUTHORIZED_BODY);
             return false;
         }
 
-        String token = authHeader.substring(7);
-        if (!jwtUtil.validateToken(token)) {
+        // 토큰을 한 번만 검증하고 사용자 ID 추출
+        Long userId = jwtUtil.verifyAndExtractUserId(authHeader.substring(7));
+        if (userId == null) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("{\"status\": 401, \"message\": \"인증에 실패했습니다\"}");
+            response.getWriter().write(UNAUTHORIZED_BODY);
             return false;
         }
 
         // 요청 속성에 사용자 ID 저장
-        Long userId = jwtUtil.extractUserId(token);
         request.setAttribute("userId", userId);
         return true;
     }
+
+    // 인증이 필요하지 않은 경로인지 확인
+    public boolean isPublicEndpoint(String method, String requestURI) {
+        return "GET".equals(method) && PUBLIC_GET_PATTERN.matcher(requestURI).matches();
+    }
 }
\ No newline at end of file
@@ -3,9 +3,14 @@ package kakao.community_backend.repository;
 import kakao.community_backend.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +19,51 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // 삭제되지 않은 댓글 중 ID로 찾기
     Optional<Comment> findByCommentIdAndIsDeletedFalse(Long commentId);
 
-    // 특정 게시글의 삭제되지 않은 댓글 찾기 (페이징)
-    Page<Comment> findByPostPostIdAndIsDeletedFalse(Long postId, Pageable pageable);
+    // 특정 게시글의 삭제되지 않은 댓글 찾기 (페이징, 작성자 함께 조회)
+    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.post.postId = :postId AND c.isDeleted = false",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.post.postId = :postId AND c.isDeleted = false")
+    Page<Comment> findByPostPostIdAndIsDeletedFalse(@Param("postId") Long postId, Pageable pageable);
 
     // 특정 사용자가 작성한 삭제되지 않은 댓글 찾기
     List<Comment> findByUserUserIdAndIsDeletedFalse(Long userId);
+
+    // 특정 사용자가 작성한 삭제되지 않은 댓글 일부 (탈퇴 처리 배치용)
+    List<Comment> findByUserUserIdAndIsDeletedFalse(Long userId, Pageable pageable);
+
+    // 특정 게시글의 삭제되지 않은 댓글 수
+    // 메서드 이름 기반 쿼리는 Posts를 LEFT JOIN하므로 외래 키 컬럼(post_id)만 보도록 직접 작성
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.postId = :postId AND c.isDeleted = false")
+    long countByPostPostIdAndIsDeletedFalse(@Param("postId") Long postId);
+
+    // 여러 게시글의 삭제되지 않은 댓글 수를 한 번에 집계
+    @Query("SELECT c.post.postId AS postId, COUNT(c) AS commentCount FROM Comment c " +
+            "WHERE c.post.postId IN :postIds AND c.isDeleted = false GROUP BY c.post.postId")
+    List<PostCommentCount> countByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 커서 기반 댓글 목록 - 첫 페이지 (작성자 함께 조회)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.post.postId = :postId AND c.isDeleted = false " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    Slice<Comment> findSliceByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    // 커서 기반 댓글 목록 - 커서 (createdAt, commentId) 이후
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.post.postId = :postId AND c.isDeleted = false " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.commentId > :commentId)) " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    Slice<Comment> findSliceByPostIdAfter(@Param("postId") Long postId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("commentId") Long commentId,
+                                          Pageable pageable);
+
+    // 댓글 목록 ETag 계산용 버전 정보 (삭제된 댓글 포함, 작성자 닉네임/프로필 변경도 반영)
+    @Query("SELECT new kakao.community_backend.repository.CommentsVersion(COUNT(c), MAX(c.updatedAt), MAX(c.commentId), " +
+            "MAX(u.updatedAt), COUNT(DISTINCT u.profileImageUrl)) FROM Comment c JOIN c.user u WHERE c.post.postId = :postId")
+    CommentsVersion findVersionByPostId(@Param("postId") Long postId);
+
+    // 댓글 목록 ETag 계산용 작성자 프로필 이미지 URL (썸네일 생성 여부 확인, 버전과 같은 범위)
+    @Query("SELECT DISTINCT u.profileImageUrl FROM Comment c JOIN c.user u " +
+            "WHERE c.post.postId = :postId AND u.profileImageUrl IS NOT NULL ORDER BY u.profileImageUrl")
+    List<String> findAuthorProfileImageUrlsByPostId(@Param("postId") Long postId);
 }
\ No newline at end of file
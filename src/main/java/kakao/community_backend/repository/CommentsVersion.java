@@ -0,0 +1,20 @@
+package kakao.community_backend.repository;
+
+import java.time.LocalDateTime;
+
+// 게시글의 댓글 목록이 바뀌었는지 판단하기 위한 값
+// 삭제도 updatedAt을 갱신하므로 삭제된 댓글까지 포함해 집계
+// profileImageCount: 작성자 프로필 이미지 종류 수 (0이면 썸네일 생성 여부를 확인할 URL 조회 생략)
+public record CommentsVersion(
+        Long commentCount,
+        LocalDateTime lastUpdatedAt,
+        Long lastCommentId,
+        LocalDateTime lastAuthorUpdatedAt,
+        Long profileImageCount) {
+
+    public String toETagValue() {
+        return commentCount + "." + Long.toString(PostVersion.toMicros(lastUpdatedAt), 36)
+                + "." + (lastCommentId == null ? 0 : lastCommentId)
+                + "." + Long.toString(PostVersion.toMicros(lastAuthorUpdatedAt), 36);
+    }
+}
@@ -0,0 +1,97 @@
+package kakao.community_backend.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Id_Generators 테이블에서 시퀀스별로 BLOCK_SIZE개씩 ID를 받아 두고 하나씩 나눠 주는 할당기 (db/id_generators.sql)
+// 요청 트랜잭션은 커넥션을 쥔 채 ID를 기다리므로, 블록 조회를 같은 풀의 두 번째 커넥션으로 하면
+// 풀이 모두 사용 중일 때 블록이 바닥나는 순간 connection-timeout까지 멈춤 (Hibernate @TableGenerator가 이렇게 동작)
+// 그래서 블록 조회는 요청 풀과 분리된 전용 커넥션 1개로만 실행함
+@Component
+public class IdBlockAllocator {
+
+    public static final int BLOCK_SIZE = 50;
+
+    private static final String SELECT_SQL = "SELECT next_val FROM Id_Generators WHERE sequence_name = ? FOR UPDATE";
+    private static final String UPDATE_SQL = "UPDATE Id_Generators SET next_val = ? WHERE sequence_name = ?";
+
+    private final HikariDataSource dataSource;
+    private final ConcurrentHashMap<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public IdBlockAllocator(DataSourceProperties properties) {
+        this.dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("id-allocator");
+        this.dataSource.setMaximumPoolSize(1);
+    }
+
+    public long next(String sequenceName) {
+        Block block = blocks.computeIfAbsent(sequenceName, name -> new Block());
+        // 블록 조회 중 DB I/O가 있으므로 가상 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock
+        block.lock.lock();
+        try {
+            if (block.next == block.end) {
+                block.next = reserve(sequenceName);
+                block.end = block.next + BLOCK_SIZE;
+            }
+            return block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        dataSource.close();
+    }
+
+    // 행을 잠그고 next_val을 블록 크기만큼 올린 뒤 블록 시작값 반환 (여러 인스턴스가 같은 테이블을 써도 겹치지 않음)
+    // 요청 스레드에 묶인 트랜잭션과 섞이지 않도록 JdbcTemplate/트랜잭션 매니저 대신 커넥션을 직접 사용
+    private long reserve(String sequenceName) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                long start = selectForUpdate(connection, sequenceName);
+                try (PreparedStatement update = connection.prepareStatement(UPDATE_SQL)) {
+                    update.setLong(1, start + BLOCK_SIZE);
+                    update.setString(2, sequenceName);
+                    update.executeUpdate();
+                }
+                connection.commit();
+                return start;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("ID 블록을 할당하지 못했습니다: " + sequenceName, e);
+        }
+    }
+
+    private long selectForUpdate(Connection connection, String sequenceName) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(SELECT_SQL)) {
+            select.setString(1, sequenceName);
+            try (ResultSet resultSet = select.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new IllegalStateException("Id_Generators에 시퀀스가 없습니다: " + sequenceName);
+                }
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    // 시퀀스별 현재 블록 [next, end)
+    private static class Block {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long end;
+    }
+}
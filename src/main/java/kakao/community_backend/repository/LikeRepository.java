@@ -1,7 +1,11 @@
 package kakao.community_backend.repository;
 
 import kakao.community_backend.entity.Like;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +22,18 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     // 특정 사용자가 좋아요를 누른 게시글 목록
     List<Like> findByUserUserId(Long userId);
+
+    // 특정 사용자가 좋아요를 누른 게시글 ID 일부 (탈퇴 처리 배치용, 게시글 ID 순)
+    @Query("SELECT l.post.postId FROM Like l WHERE l.user.userId = :userId ORDER BY l.post.postId ASC")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 좋아요 취소 - (user_id, post_id) 유니크 키로 바로 삭제하고 삭제된 행 수 반환
+    @Modifying
+    @Query(value = "DELETE FROM Likes WHERE user_id = :userId AND post_id = :postId", nativeQuery = true)
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 좋아요 추가 - 엔티티 로딩 없이 바로 삽입
+    @Modifying
+    @Query(value = "INSERT INTO Likes (user_id, post_id, created_at) VALUES (:userId, :postId, NOW())", nativeQuery = true)
+    int insertLike(@Param("userId") Long userId, @Param("postId") Long postId);
 }
@@ -0,0 +1,7 @@
+package kakao.community_backend.repository;
+
+// 게시글별 댓글 수 집계 결과 프로젝션
+public interface PostCommentCount {
+    Long getPostId();
+    Long getCommentCount();
+}
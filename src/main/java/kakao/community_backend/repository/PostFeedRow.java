@@ -0,0 +1,18 @@
+package kakao.community_backend.repository;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 조회용 프로젝션 (본문 대신 요약본, 작성자 정보는 조인으로 함께 조회)
+public record PostFeedRow(
+        Long postId,
+        String title,
+        String contentExcerpt,
+        String contentImageUrl,
+        Integer viewCount,
+        Integer likeCount,
+        Long authorId,
+        String authorNickname,
+        String authorProfileImageUrl,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
@@ -0,0 +1,11 @@
+package kakao.community_backend.repository;
+
+import java.time.LocalDateTime;
+
+// 인기 순위 재구성용 프로젝션
+public record PostHotSeed(
+        Long postId,
+        Integer likeCount,
+        Integer viewCount,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,22 @@
+package kakao.community_backend.repository;
+
+import kakao.community_backend.entity.PostImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PostImageRepository extends JpaRepository<PostImage, Long> {
+    // 특정 게시글의 삭제되지 않은 이미지 (표시 순서대로)
+    List<PostImage> findByPostPostIdAndIsDeletedFalseOrderBySortOrderAsc(Long postId);
+
+    // 상세 응답 ETag 계산용 이미지 URL (엔티티를 만들지 않고 URL만 조회)
+    @Query("SELECT i.imageUrl FROM PostImage i WHERE i.post.postId = :postId AND i.isDeleted = false ORDER BY i.sortOrder ASC")
+    List<String> findImageUrlsByPostId(@Param("postId") Long postId);
+
+    // 이미지 파일을 참조하는 행이 있는지 (삭제 표시된 이미지 포함, 사용되지 않는 파일 정리용)
+    boolean existsByImageUrl(String imageUrl);
+}
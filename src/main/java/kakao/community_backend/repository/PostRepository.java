@@ -3,15 +3,30 @@ package kakao.community_backend.repository;
 import kakao.community_backend.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+    String FEED_SELECT = "SELECT new kakao.community_backend.repository.PostFeedRow(" +
+            "p.postId, p.title, SUBSTRING(p.content, 1, 100), p.contentImageUrl, p.viewCount, p.likeCount, " +
+            "u.userId, u.nickname, u.profileImageUrl, p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.user u ";
+
+    String FEED_COUNT = "SELECT COUNT(p) FROM Post p WHERE p.isDeleted = false";
+
+    String SEARCH_SELECT = "SELECT new kakao.community_backend.repository.PostSearchRow(" +
+            "p.postId, p.title, p.content, p.createdAt, p.updatedAt, p.isDeleted) FROM Post p ";
+
     // 삭제되지 않은 게시글 중 ID로 찾기
     Optional<Post> findByPostIdAndIsDeletedFalse(Long postId);
 
@@ -21,10 +36,88 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     // 특정 사용자가 작성한 삭제되지 않은 게시글 찾기
     List<Post> findByUserUserIdAndIsDeletedFalse(Long userId);
 
+    // 특정 사용자가 작성한 삭제되지 않은 게시글 일부 (탈퇴 처리 배치용)
+    List<Post> findByUserUserIdAndIsDeletedFalse(Long userId, Pageable pageable);
+
     // 제목에 특정 키워드를 포함하는 삭제되지 않은 게시글 찾기
     Page<Post> findByTitleContainingAndIsDeletedFalse(String keyword, Pageable pageable);
 
     // JPQL을 사용한 인기 게시글 찾기 (좋아요 수 기준)
     @Query("SELECT p FROM Post p WHERE p.isDeleted = false ORDER BY p.likeCount DESC")
     Page<Post> findPopularPosts(Pageable pageable);
+
+    // 게시글 목록 (최신순) - 목록에 필요한 컬럼과 작성자 정보만 한 번의 조인 쿼리로 조회
+    @Query(value = FEED_SELECT + "WHERE p.isDeleted = false ORDER BY p.createdAt DESC, p.postId DESC",
+            countQuery = FEED_COUNT)
+    Page<PostFeedRow> findLatestFeed(Pageable pageable);
+
+    // 게시글 목록 (좋아요순)
+    @Query(value = FEED_SELECT + "WHERE p.isDeleted = false ORDER BY p.likeCount DESC, p.postId DESC",
+            countQuery = FEED_COUNT)
+    Page<PostFeedRow> findPopularFeed(Pageable pageable);
+
+    // 커서 기반 게시글 목록 (최신순) - 첫 페이지
+    @Query(FEED_SELECT + "WHERE p.isDeleted = false ORDER BY p.createdAt DESC, p.postId DESC")
+    Slice<PostFeedRow> findLatestFeedSlice(Pageable pageable);
+
+    // 커서 기반 게시글 목록 (최신순) - 커서 (createdAt, postId) 이후
+    @Query(FEED_SELECT + "WHERE p.isDeleted = false " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    Slice<PostFeedRow> findLatestFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                           @Param("postId") Long postId,
+                                           Pageable pageable);
+
+    // 커서 기반 게시글 목록 (좋아요순) - 첫 페이지
+    @Query(FEED_SELECT + "WHERE p.isDeleted = false ORDER BY p.likeCount DESC, p.postId DESC")
+    Slice<PostFeedRow> findPopularFeedSlice(Pageable pageable);
+
+    // 커서 기반 게시글 목록 (좋아요순) - 커서 (likeCount, postId) 이후
+    @Query(FEED_SELECT + "WHERE p.isDeleted = false " +
+            "AND (p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.postId < :postId)) " +
+            "ORDER BY p.likeCount DESC, p.postId DESC")
+    Slice<PostFeedRow> findPopularFeedAfter(@Param("likeCount") int likeCount,
+                                            @Param("postId") Long postId,
+                                            Pageable pageable);
+
+    // 좋아요 수 조회와 동시에 게시글 행 잠금 (같은 게시글의 좋아요 토글을 직렬화)
+    @Query(value = "SELECT like_count FROM Posts WHERE post_id = :postId AND is_deleted = false FOR UPDATE", nativeQuery = true)
+    Optional<Integer> findLikeCountForUpdate(@Param("postId") Long postId);
+
+    // 좋아요 수를 DB에서 원자적으로 증감
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.postId = :postId")
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 게시글 ID 목록으로 목록용 프로젝션 조회 (순서는 호출하는 쪽에서 맞춤)
+    @Query(FEED_SELECT + "WHERE p.postId IN :postIds AND p.isDeleted = false")
+    List<PostFeedRow> findFeedByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 상세 응답의 ETag 계산용 버전 정보 (DTO를 만들지 않고 인덱스 조회만으로 판단)
+    @Query("SELECT new kakao.community_backend.repository.PostVersion(p.updatedAt, p.likeCount, u.updatedAt, " +
+            "(SELECT COUNT(c) FROM Comment c WHERE c.post = p AND c.isDeleted = false), " +
+            "(SELECT COUNT(i) FROM PostImage i WHERE i.post = p AND i.isDeleted = false), " +
+            "(SELECT MAX(i.imageId) FROM PostImage i WHERE i.post = p), p.contentImageUrl, u.profileImageUrl) " +
+            "FROM Post p JOIN p.user u WHERE p.postId = :postId AND p.isDeleted = false")
+    Optional<PostVersion> findVersionById(@Param("postId") Long postId);
+
+    // 게시글 ID 목록으로 작성자까지 한 번에 조회 (일괄 조회용, 순서는 호출하는 쪽에서 맞춤)
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.postId IN :postIds AND p.isDeleted = false")
+    List<Post> findAllWithUserByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 특정 시점 이후 작성된 삭제되지 않은 게시글의 인기 순위 재구성용 데이터
+    @Query("SELECT new kakao.community_backend.repository.PostHotSeed(p.postId, p.likeCount, p.viewCount, p.createdAt) " +
+            "FROM Post p WHERE p.isDeleted = false AND p.createdAt >= :since")
+    List<PostHotSeed> findHotSeedsSince(@Param("since") LocalDateTime since);
+
+    // 검색 색인 전체 구성용 (게시글 ID 순 키셋 페이지네이션)
+    @Query(SEARCH_SELECT + "WHERE p.isDeleted = false AND p.postId > :postId ORDER BY p.postId ASC")
+    Slice<PostSearchRow> findSearchRowsAfter(@Param("postId") Long postId, Pageable pageable);
+
+    // 특정 시점 이후 작성/수정/삭제된 게시글 (저장된 색인을 따라잡을 때 사용)
+    @Query(SEARCH_SELECT + "WHERE p.createdAt >= :since OR p.updatedAt >= :since")
+    List<PostSearchRow> findSearchRowsChangedSince(@Param("since") LocalDateTime since);
+
+    @Query(SEARCH_SELECT + "WHERE p.postId = :postId")
+    Optional<PostSearchRow> findSearchRowById(@Param("postId") Long postId);
 }
\ No newline at end of file
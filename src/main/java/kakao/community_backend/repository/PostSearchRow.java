@@ -0,0 +1,18 @@
+package kakao.community_backend.repository;
+
+import java.time.LocalDateTime;
+
+// 검색 색인용 프로젝션 (삭제된 게시글은 색인에서 제거)
+public record PostSearchRow(
+        Long postId,
+        String title,
+        String content,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        boolean deleted) {
+
+    // 색인 버전 비교용 최종 변경 시각
+    public LocalDateTime changedAt() {
+        return updatedAt != null ? updatedAt : createdAt;
+    }
+}
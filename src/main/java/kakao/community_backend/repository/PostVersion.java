@@ -0,0 +1,30 @@
+package kakao.community_backend.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// 게시글 상세 응답이 바뀌었는지 판단하기 위한 값 (조회수는 제외)
+// 이미지 URL은 ETag에 직접 넣지 않고 변형(썸네일, 피드용) 생성 여부를 확인하는 데 사용
+public record PostVersion(
+        LocalDateTime updatedAt,
+        Integer likeCount,
+        LocalDateTime authorUpdatedAt,
+        Long commentCount,
+        Long imageCount,
+        Long lastImageId,
+        String contentImageUrl,
+        String authorProfileImageUrl) {
+
+    public String toETagValue() {
+        return Long.toString(toMicros(updatedAt), 36) + "." + likeCount
+                + "." + Long.toString(toMicros(authorUpdatedAt), 36)
+                + "." + commentCount + "." + imageCount + "." + (lastImageId == null ? 0 : lastImageId);
+    }
+
+    static long toMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+}
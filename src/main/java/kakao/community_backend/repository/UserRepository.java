@@ -16,9 +16,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 닉네임으로 사용자 찾기
     Optional<User> findByNickname(String nickname);
 
+    // 프로필 이미지로 쓰는 사용자가 있는지 (사용되지 않는 파일 정리용)
+    boolean existsByProfileImageUrl(String profileImageUrl);
+
     // 삭제되지 않은 모든 사용자 찾기
     List<User> findByIsDeletedFalse();
 
+    // 탈퇴했지만 아직 남은 게시글/댓글/좋아요가 있는 사용자 (중단된 탈퇴 처리 재개용)
+    @Query("SELECT u.userId FROM User u WHERE u.isDeleted = true AND (" +
+            "EXISTS (SELECT 1 FROM Post p WHERE p.user = u AND p.isDeleted = false) OR " +
+            "EXISTS (SELECT 1 FROM Comment c WHERE c.user = u AND c.isDeleted = false) OR " +
+            "EXISTS (SELECT 1 FROM Like l WHERE l.user = u))")
+    List<Long> findDeletedUserIdsWithRemainingContent();
+
     // JPQL을 사용한 쿼리 예시
     @Query("SELECT u FROM User u WHERE u.isDeleted = false ORDER BY u.createdAt DESC")
     List<User> findAllActiveUsers();
@@ -0,0 +1,388 @@
+// PostSearchIndex.java
+package kakao.community_backend.search;
+
+import jakarta.annotation.PreDestroy;
+import kakao.community_backend.event.PostChangedEvent;
+import kakao.community_backend.repository.PostRepository;
+import kakao.community_backend.repository.PostSearchRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 게시글 제목/본문 역색인 (BM25F 점수, 제목 가중치 적용)
+// 게시글 작성/수정/삭제 이벤트로 점진적으로 갱신하고, 주기적으로 파일에 저장해 재시작 시에는
+// 저장 이후 변경된 게시글만 다시 색인
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private static final int FILE_MAGIC = 0x50534958; // "PSIX"
+    // 2: 토큰 길이를 MAX_TOKEN_LENGTH로 제한 (이전 스냅샷은 버리고 다시 색인)
+    private static final int FILE_VERSION = 2;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MAX_QUERY_TERMS = 32;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    // 저장 직전에 커밋되었지만 아직 색인에 반영되지 않은 변경도 다시 읽도록 여유를 둠
+    private static final long CATCH_UP_MARGIN_MILLIS = 60_000;
+
+    private final PostRepository postRepository;
+    private final Path indexFile;
+    private final double titleBoost;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<String, Map<Long, Posting>> postings = new HashMap<>();
+    private long totalTitleLength;
+    private long totalContentLength;
+    private volatile boolean dirty;
+
+    public PostSearchIndex(PostRepository postRepository,
+                           @Value("${search.index-file:./data/post-search.idx}") String indexFile,
+                           @Value("${search.title-boost:3.0}") double titleBoost) {
+        this.postRepository = postRepository;
+        this.indexFile = Paths.get(indexFile).toAbsolutePath().normalize();
+        this.titleBoost = titleBoost;
+    }
+
+    // 점수 내림차순으로 [offset, offset + limit) 구간의 게시글 ID
+    public SearchResult search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(query));
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int docCount = docs.size();
+            double avgTitleLength = Math.max(1.0, (double) totalTitleLength / Math.max(1, docCount));
+            double avgContentLength = Math.max(1.0, (double) totalContentLength / Math.max(1, docCount));
+
+            int used = 0;
+            for (String term : terms) {
+                if (used++ >= MAX_QUERY_TERMS) {
+                    break;
+                }
+                Map<Long, Posting> matches = postings.get(term);
+                if (matches == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (docCount - matches.size() + 0.5) / (matches.size() + 0.5));
+                for (Map.Entry<Long, Posting> entry : matches.entrySet()) {
+                    Doc doc = docs.get(entry.getKey());
+                    Posting posting = entry.getValue();
+                    double tf = titleBoost * posting.titleTf() / (1 - B + B * doc.titleLength() / avgTitleLength)
+                            + posting.contentTf() / (1 - B + B * doc.contentLength() / avgContentLength);
+                    scores.merge(entry.getKey(), idf * tf * (K1 + 1) / (tf + K1), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new SearchResult(topPostIds(scores, offset, limit), scores.size());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 시작 시 저장된 색인을 읽고 이후 변경분만 반영 (파일이 없거나 읽을 수 없으면 전체 구성)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        LocalDateTime savedAt = load();
+        if (savedAt == null) {
+            rebuild();
+        } else {
+            List<PostSearchRow> changed = postRepository.findSearchRowsChangedSince(savedAt);
+            changed.forEach(this::apply);
+            log.info("검색 색인 로드 완료: {}건 (변경분 {}건 반영)", size(), changed.size());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            remove(event.getPostId());
+        } else {
+            postRepository.findSearchRowById(event.getPostId()).ifPresent(this::apply);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.persist-interval-ms:60000}")
+    public void persistIfDirty() {
+        if (dirty) {
+            persist();
+        }
+    }
+
+    @PreDestroy
+    public void persistOnShutdown() {
+        persistIfDirty();
+    }
+
+    private void rebuild() {
+        long lastPostId = 0;
+        Slice<PostSearchRow> rows;
+        do {
+            rows = postRepository.findSearchRowsAfter(lastPostId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (PostSearchRow row : rows) {
+                apply(row);
+                lastPostId = row.postId();
+            }
+        } while (rows.hasNext());
+
+        log.info("검색 색인 구성 완료: {}건", size());
+        persist();
+    }
+
+    private void apply(PostSearchRow row) {
+        if (row.deleted()) {
+            remove(row.postId());
+            return;
+        }
+
+        long version = toMillis(row.changedAt());
+        Map<String, Posting> terms = new HashMap<>();
+        List<String> titleTokens = SearchTokenizer.tokenize(row.title());
+        List<String> contentTokens = SearchTokenizer.tokenize(row.content());
+        for (String token : titleTokens) {
+            terms.merge(token, new Posting(1, 0), Posting::plus);
+        }
+        for (String token : contentTokens) {
+            terms.merge(token, new Posting(0, 1), Posting::plus);
+        }
+        Doc doc = new Doc(version, titleTokens.size(), contentTokens.size(), terms);
+
+        lock.writeLock().lock();
+        try {
+            Doc current = docs.get(row.postId());
+            // 이벤트와 재구성이 겹칠 때 더 오래된 내용으로 덮어쓰지 않음
+            if (current != null && current.version() > version) {
+                return;
+            }
+            put(row.postId(), doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        dirty = true;
+    }
+
+    private void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            if (removeDoc(postId) == null) {
+                return;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        dirty = true;
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출
+    private void put(Long postId, Doc doc) {
+        removeDoc(postId);
+        docs.put(postId, doc);
+        totalTitleLength += doc.titleLength();
+        totalContentLength += doc.contentLength();
+        doc.terms().forEach((term, posting) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(postId, posting));
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출
+    private Doc removeDoc(Long postId) {
+        Doc doc = docs.remove(postId);
+        if (doc == null) {
+            return null;
+        }
+        totalTitleLength -= doc.titleLength();
+        totalContentLength -= doc.contentLength();
+        for (String term : doc.terms().keySet()) {
+            Map<Long, Posting> matches = postings.get(term);
+            if (matches != null) {
+                matches.remove(postId);
+                if (matches.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        return doc;
+    }
+
+    private List<Long> topPostIds(Map<Long, Double> scores, int offset, int limit) {
+        int needed = offset + limit;
+        if (limit <= 0 || offset >= scores.size()) {
+            return List.of();
+        }
+
+        // 필요한 개수만큼만 유지하는 최소 힙 (점수가 같으면 최신 게시글 우선)
+        Comparator<Map.Entry<Long, Double>> order = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(needed, order);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > needed) {
+                top.poll();
+            }
+        }
+
+        List<Map.Entry<Long, Double>> sorted = new ArrayList<>(top);
+        sorted.sort(order.reversed());
+        return sorted.subList(offset, sorted.size()).stream()
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // 임시 파일에 쓴 뒤 원자적으로 교체 (문서 객체는 불변이므로 복사본만 락 안에서 만듦)
+    private void persist() {
+        long savedAt = System.currentTimeMillis();
+        dirty = false;
+
+        Map<Long, Doc> snapshot;
+        lock.readLock().lock();
+        try {
+            snapshot = new HashMap<>(docs);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Path temp = null;
+        try {
+            Files.createDirectories(indexFile.getParent());
+            temp = Files.createTempFile(indexFile.getParent(), "post-search-", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeLong(savedAt);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<Long, Doc> entry : snapshot.entrySet()) {
+                    Doc doc = entry.getValue();
+                    out.writeLong(entry.getKey());
+                    out.writeLong(doc.version());
+                    out.writeInt(doc.titleLength());
+                    out.writeInt(doc.contentLength());
+                    out.writeInt(doc.terms().size());
+                    for (Map.Entry<String, Posting> term : doc.terms().entrySet()) {
+                        out.writeUTF(term.getKey());
+                        out.writeInt(term.getValue().titleTf());
+                        out.writeInt(term.getValue().contentTf());
+                    }
+                }
+            }
+            Files.move(temp, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            temp = null;
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("검색 색인 저장 실패: {}", e.getMessage());
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 임시 파일 삭제 실패는 무시
+                }
+            }
+        }
+    }
+
+    // 저장된 색인을 읽어 저장 시각(여유 포함)을 돌려줌 (없거나 형식이 맞지 않으면 null)
+    private LocalDateTime load() {
+        if (!Files.isRegularFile(indexFile)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(indexFile))))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                return null;
+            }
+            long savedAt = in.readLong();
+            int docCount = in.readInt();
+
+            Map<Long, Doc> loaded = new HashMap<>(docCount * 2);
+            for (int i = 0; i < docCount; i++) {
+                long postId = in.readLong();
+                long version = in.readLong();
+                int titleLength = in.readInt();
+                int contentLength = in.readInt();
+                int termCount = in.readInt();
+                Map<String, Posting> terms = new HashMap<>(termCount * 2);
+                for (int j = 0; j < termCount; j++) {
+                    terms.put(in.readUTF(), new Posting(in.readInt(), in.readInt()));
+                }
+                loaded.put(postId, new Doc(version, titleLength, contentLength, terms));
+            }
+
+            lock.writeLock().lock();
+            try {
+                docs.clear();
+                postings.clear();
+                totalTitleLength = 0;
+                totalContentLength = 0;
+                loaded.forEach(this::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(savedAt - CATCH_UP_MARGIN_MILLIS), ZoneId.systemDefault());
+        } catch (IOException e) {
+            log.warn("검색 색인 파일을 읽을 수 없어 다시 구성합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 게시글 하나의 색인 정보 (version은 마지막 변경 시각)
+    private record Doc(long version, int titleLength, int contentLength, Map<String, Posting> terms) {
+    }
+
+    private record Posting(int titleTf, int contentTf) {
+        Posting plus(Posting other) {
+            return new Posting(titleTf + other.titleTf, contentTf + other.contentTf);
+        }
+    }
+}
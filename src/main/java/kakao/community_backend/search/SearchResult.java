@@ -0,0 +1,7 @@
+package kakao.community_backend.search;
+
+import java.util.List;
+
+// 검색 결과 구간의 게시글 ID (점수 내림차순)와 전체 일치 건수
+public record SearchResult(List<Long> postIds, int totalHits) {
+}
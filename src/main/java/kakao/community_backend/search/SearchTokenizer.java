@@ -0,0 +1,79 @@
+// SearchTokenizer.java
+package kakao.community_backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색어/본문 토큰화
+// 한글·한자·가나는 띄어쓰기와 조사에 관계없이 찾을 수 있도록 2글자 단위(bigram)로 자르고,
+// 영문·숫자는 단어 단위로 자름 (한 글자짜리 한글 단어는 그대로 사용)
+public final class SearchTokenizer {
+
+    // 이보다 긴 영문·숫자 단어는 앞부분만 사용 (색인 스냅샷의 writeUTF 길이 제한도 넘지 않게 함)
+    static final int MAX_TOKEN_LENGTH = 64;
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        boolean cjkRun = false;
+
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, cjkRun, tokens);
+                continue;
+            }
+
+            boolean cjk = isCjk(codePoint);
+            if (run.length() > 0 && cjk != cjkRun) {
+                flush(run, cjkRun, tokens);
+            }
+            cjkRun = cjk;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, cjkRun, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder run, boolean cjk, List<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+
+        if (!cjk) {
+            int length = run.codePointCount(0, run.length());
+            tokens.add(length <= MAX_TOKEN_LENGTH
+                    ? run.toString()
+                    : run.substring(0, run.offsetByCodePoints(0, MAX_TOKEN_LENGTH)));
+        } else {
+            int[] codePoints = run.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(new String(codePoints, 0, 1));
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
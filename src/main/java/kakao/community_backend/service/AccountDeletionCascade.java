@@ -0,0 +1,191 @@
+// AccountDeletionCascade.java
+package kakao.community_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import kakao.community_backend.entity.Comment;
+import kakao.community_backend.entity.Post;
+import kakao.community_backend.event.CommentChangedEvent;
+import kakao.community_backend.event.PostChangedEvent;
+import kakao.community_backend.event.UserChangedEvent;
+import kakao.community_backend.repository.CommentRepository;
+import kakao.community_backend.repository.LikeRepository;
+import kakao.community_backend.repository.PostRepository;
+import kakao.community_backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 탈퇴한 사용자의 좋아요 삭제, 댓글/게시글 논리적 삭제를 백그라운드에서 배치 단위로 처리
+// 댓글/게시글은 배치마다, 좋아요는 한 건마다 짧은 트랜잭션으로 커밋하므로 잠금을 오래 유지하지 않고,
+// 중간에 중단되어도 남은 데이터 기준으로 다시 조회하므로 시작 시/주기적 재검사로 이어서 처리됨
+@Slf4j
+@Component
+public class AccountDeletionCascade {
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final LikeService likeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final ThreadPoolExecutor executor;
+
+    // 대기 중이거나 처리 중인 사용자 (같은 사용자를 동시에 처리하지 않도록)
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopping;
+
+    public AccountDeletionCascade(UserRepository userRepository,
+                                  PostRepository postRepository,
+                                  CommentRepository commentRepository,
+                                  LikeRepository likeRepository,
+                                  LikeService likeService,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${account.deletion.batch-size:100}") int batchSize,
+                                  @Value("${account.deletion.queue-capacity:1000}") int queueCapacity) {
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.likeService = likeService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        // 한 번에 한 사용자씩 처리해 DB 부하를 일정하게 유지
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("account-deletion-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            submit(event.getUserId());
+        }
+    }
+
+    // 이전 실행에서 끝나지 않았거나 대기열이 가득 차 거절된 탈퇴 처리 재개
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${account.deletion.rescan-interval-ms:3600000}",
+            initialDelayString = "${account.deletion.rescan-interval-ms:3600000}")
+    public void resumePending() {
+        List<Long> userIds = userRepository.findDeletedUserIdsWithRemainingContent();
+        if (!userIds.isEmpty()) {
+            log.info("탈퇴 처리 재개: {}명", userIds.size());
+        }
+        userIds.forEach(this::submit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 배치는 끝까지 커밋하고 멈춤 (나머지는 다음 시작 시 재개)
+        stopping = true;
+        executor.shutdown();
+    }
+
+    private void submit(Long userId) {
+        if (!pending.add(userId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    cascade(userId);
+                } catch (RuntimeException e) {
+                    log.error("탈퇴 처리 실패 (다음 재검사 때 재시도): userId={}", userId, e);
+                } finally {
+                    pending.remove(userId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(userId);
+            log.warn("탈퇴 처리 대기열이 가득 참 (다음 재검사 때 처리): userId={}", userId);
+        }
+    }
+
+    // 좋아요 -> 댓글 -> 게시글 순으로 배치가 빌 때까지 반복
+    private void cascade(Long userId) {
+        int likes = 0;
+        int comments = 0;
+        int posts = 0;
+
+        int processed;
+        while (!stopping && (processed = removeLikeBatch(userId)) > 0) {
+            likes += processed;
+        }
+        while (!stopping && (processed = deleteCommentBatch(userId)) > 0) {
+            comments += processed;
+        }
+        while (!stopping && (processed = deletePostBatch(userId)) > 0) {
+            posts += processed;
+        }
+
+        if (!stopping) {
+            log.info("탈퇴 처리 완료: userId={}, 좋아요 {}건, 댓글 {}건, 게시글 {}건", userId, likes, comments, posts);
+        }
+    }
+
+    // 대상 게시글 ID만 잠금 없이 읽고, 좋아요는 하나씩 각자의 트랜잭션(removeLike)에서 취소
+    // 한 번에 게시글 행 하나만 잠그므로 인기 게시글의 좋아요 토글을 배치 전체 동안 막지 않음
+    private int removeLikeBatch(Long userId) {
+        List<Long> postIds = likeRepository.findPostIdsByUserId(userId, PageRequest.of(0, batchSize));
+        int removed = 0;
+        for (Long postId : postIds) {
+            if (stopping) {
+                break;
+            }
+            likeService.removeLike(postId, userId);
+            removed++;
+        }
+        return removed;
+    }
+
+    private int deleteCommentBatch(Long userId) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Comment> comments = commentRepository.findByUserUserIdAndIsDeletedFalse(
+                    userId, PageRequest.of(0, batchSize, Sort.by("commentId")));
+            for (Comment comment : comments) {
+                comment.setDeleted(true);
+                eventPublisher.publishEvent(new CommentChangedEvent(
+                        comment.getPost().getPostId(), comment.getCommentId(), CommentChangedEvent.Type.DELETED));
+            }
+            return comments.size();
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private int deletePostBatch(Long userId) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Post> posts = postRepository.findByUserUserIdAndIsDeletedFalse(
+                    userId, PageRequest.of(0, batchSize, Sort.by("postId")));
+            for (Post post : posts) {
+                post.setDeleted(true);
+                eventPublisher.publishEvent(new PostChangedEvent(post.getPostId(), PostChangedEvent.Type.DELETED));
+            }
+            return posts.size();
+        });
+        return deleted == null ? 0 : deleted;
+    }
+}
@@ -2,10 +2,13 @@
 package kakao.community_backend.service;
 
 import kakao.community_backend.dto.CommentDto;
+import kakao.community_backend.dto.CursorSlice;
 import org.springframework.data.domain.Page;
 
 public interface CommentService {
     Page<CommentDto> getCommentsByPostId(Long postId, int page, int size);
+    CursorSlice<CommentDto> getCommentsByCursor(Long postId, String cursor, int size);
+    String getCommentsVersion(Long postId);
     Long createComment(Long userId, Long postId, String content);
     void updateComment(Long userId, Long commentId, String content);
     void deleteComment(Long userId, Long commentId);
@@ -2,27 +2,41 @@
 package kakao.community_backend.service;
 
 import kakao.community_backend.dto.CommentDto;
+import kakao.community_backend.dto.CursorSlice;
 import kakao.community_backend.entity.Comment;
 import kakao.community_backend.entity.Post;
 import kakao.community_backend.entity.User;
+import kakao.community_backend.event.CommentChangedEvent;
 import kakao.community_backend.repository.CommentRepository;
+import kakao.community_backend.repository.CommentsVersion;
 import kakao.community_backend.repository.PostRepository;
 import kakao.community_backend.repository.UserRepository;
+import kakao.community_backend.storage.ImageVariant;
+import kakao.community_backend.storage.ImageVariantService;
+import kakao.community_backend.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
+    private static final String COMMENT_CURSOR = "C";
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final ImageVariantService imageVariantService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -32,6 +46,55 @@ public class CommentServiceImpl implements CommentService {
         return comments.map(this::convertToDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<CommentDto> getCommentsByCursor(Long postId, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+
+        // 커서 이후의 댓글을 인덱스 탐색으로 조회 (OFFSET, COUNT 쿼리 없음)
+        Slice<Comment> comments;
+        if (cursor == null || cursor.isEmpty()) {
+            comments = commentRepository.findSliceByPostId(postId, pageable);
+        } else {
+            String[] parts = CursorUtil.decode(cursor, COMMENT_CURSOR, 2);
+            comments = commentRepository.findSliceByPostIdAfter(
+                    postId, CursorUtil.toDateTime(parts[0]), CursorUtil.toLong(parts[1]), pageable);
+        }
+
+        List<Comment> content = comments.getContent();
+        String nextCursor = null;
+        if (comments.hasNext()) {
+            Comment last = content.get(content.size() - 1);
+            nextCursor = CursorUtil.encode(COMMENT_CURSOR,
+                    last.getCreatedAt().toString(), String.valueOf(last.getCommentId()));
+        }
+
+        return CursorSlice.<CommentDto>builder()
+                .content(content.stream().map(this::convertToDto).toList())
+                .nextCursor(nextCursor)
+                .hasNext(comments.hasNext())
+                .build();
+    }
+
+    // 댓글 목록의 변경 여부를 판단할 버전 문자열 (집계 쿼리 한 번, 프로필 이미지가 있으면 URL 조회 한 번 더)
+    // 응답의 authorProfileThumbnailUrl은 썸네일이 생기면 바뀌므로 생성 여부도 반영
+    @Override
+    public String getCommentsVersion(Long postId) {
+        CommentsVersion version = commentRepository.findVersionByPostId(postId);
+        return version.toETagValue() + "." + Long.toString(variantState(postId, version), 36);
+    }
+
+    // 작성자 프로필 썸네일마다 생성 여부를 한 자리씩 반영한 값
+    private long variantState(Long postId, CommentsVersion version) {
+        long state = 1;
+        if (version.profileImageCount() > 0) {
+            for (String profileImageUrl : commentRepository.findAuthorProfileImageUrlsByPostId(postId)) {
+                state = state * 31 + (imageVariantService.isReady(profileImageUrl, ImageVariant.THUMBNAIL) ? 1 : 0);
+            }
+        }
+        return state;
+    }
+
     @Override
     @Transactional
     public Long createComment(Long userId, Long postId, String content) {
@@ -53,6 +116,8 @@ public class CommentServiceImpl implements CommentService {
 
         // 저장
         Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(
+                postId, savedComment.getCommentId(), CommentChangedEvent.Type.CREATED));
         return savedComment.getCommentId();
     }
 
@@ -90,6 +155,8 @@ public class CommentServiceImpl implements CommentService {
         // 논리적 삭제 처리
         comment.setDeleted(true);
         commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(
+                comment.getPost().getPostId(), commentId, CommentChangedEvent.Type.DELETED));
     }
 
     // 엔티티를 DTO로 변환하는 유틸리티 메서드
@@ -100,6 +167,8 @@ public class CommentServiceImpl implements CommentService {
                 .authorId(comment.getUser().getUserId())
                 .authorNickname(comment.getUser().getNickname())
                 .authorProfileImageUrl(comment.getUser().getProfileImageUrl())
+                .authorProfileThumbnailUrl(imageVariantService.variantUrl(
+                        comment.getUser().getProfileImageUrl(), ImageVariant.THUMBNAIL))
                 .postId(comment.getPost().getPostId())
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
@@ -0,0 +1,234 @@
+// HotPostRanking.java
+package kakao.community_backend.service;
+
+import kakao.community_backend.event.CommentChangedEvent;
+import kakao.community_backend.event.PostChangedEvent;
+import kakao.community_backend.event.PostLikedEvent;
+import kakao.community_backend.event.PostViewsFlushedEvent;
+import kakao.community_backend.repository.CommentRepository;
+import kakao.community_backend.repository.PostCommentCount;
+import kakao.community_backend.repository.PostHotSeed;
+import kakao.community_backend.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 시간 감쇠를 적용한 인기 게시글 순위 (좋아요/댓글/조회 이벤트로 점진적으로 갱신)
+// 점수는 이벤트 가중치 * exp(λ * (이벤트 시각 - 기준 시각))의 합으로, 시간이 지나도 다시 계산할 필요가 없음
+@Slf4j
+@Component
+public class HotPostRanking {
+
+    private static final Comparator<ScoredPost> ORDER = Comparator
+            .comparingDouble(ScoredPost::score).reversed()
+            .thenComparing(ScoredPost::postId, Comparator.reverseOrder());
+
+    // 감쇠 배율이 이 값을 넘으면 기준 시각을 현재로 옮겨 double 범위를 벗어나지 않게 함
+    private static final double REBASE_THRESHOLD = 1e12;
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    private final double decayPerMillis;
+    private final double postWeight;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double viewWeight;
+    private final int maxTracked;
+    private final int rebuildWindowDays;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, ScoredPost> scores = new HashMap<>();
+    private final TreeSet<ScoredPost> ranking = new TreeSet<>(ORDER);
+    private long baseTime = System.currentTimeMillis();
+
+    public HotPostRanking(PostRepository postRepository,
+                          CommentRepository commentRepository,
+                          @Value("${hot.half-life-hours:12}") double halfLifeHours,
+                          @Value("${hot.post-weight:1}") double postWeight,
+                          @Value("${hot.like-weight:3}") double likeWeight,
+                          @Value("${hot.comment-weight:2}") double commentWeight,
+                          @Value("${hot.view-weight:0.1}") double viewWeight,
+                          @Value("${hot.max-tracked:10000}") int maxTracked,
+                          @Value("${hot.rebuild-window-days:7}") int rebuildWindowDays) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.decayPerMillis = Math.log(2) / (halfLifeHours * 60 * 60 * 1000);
+        this.postWeight = postWeight;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.viewWeight = viewWeight;
+        this.maxTracked = maxTracked;
+        this.rebuildWindowDays = rebuildWindowDays;
+    }
+
+    // 순위 구간의 게시글 ID 목록 (점수 내림차순)
+    public List<Long> getPostIds(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Long> postIds = new ArrayList<>(limit);
+            Iterator<ScoredPost> iterator = ranking.iterator();
+            for (int i = 0; i < offset && iterator.hasNext(); i++) {
+                iterator.next();
+            }
+            while (postIds.size() < limit && iterator.hasNext()) {
+                postIds.add(iterator.next().postId());
+            }
+            return postIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 시작 시 최근 게시글로 순위 재구성 (그동안의 반응은 작성 시각에 발생한 것으로 근사)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<PostHotSeed> seeds = postRepository.findHotSeedsSince(LocalDateTime.now().minusDays(rebuildWindowDays));
+
+        Map<Long, Long> commentCounts = new HashMap<>();
+        for (int from = 0; from < seeds.size(); from += SEED_BATCH_SIZE) {
+            List<Long> postIds = seeds.subList(from, Math.min(from + SEED_BATCH_SIZE, seeds.size())).stream()
+                    .map(PostHotSeed::postId)
+                    .toList();
+            for (PostCommentCount count : commentRepository.countByPostIds(postIds)) {
+                commentCounts.put(count.getPostId(), count.getCommentCount());
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            scores.clear();
+            ranking.clear();
+            baseTime = System.currentTimeMillis();
+            for (PostHotSeed seed : seeds) {
+                double weight = postWeight
+                        + likeWeight * seed.likeCount()
+                        + commentWeight * commentCounts.getOrDefault(seed.postId(), 0L)
+                        + viewWeight * seed.viewCount();
+                long createdAt = seed.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                addScore(seed.postId(), weight, createdAt);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("인기 게시글 순위 재구성 완료: {}건", seeds.size());
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.CREATED) {
+            record(event.getPostId(), postWeight);
+        } else if (event.getType() == PostChangedEvent.Type.DELETED) {
+            remove(event.getPostId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostLiked(PostLikedEvent event) {
+        record(event.getPostId(), event.isLiked() ? likeWeight : -likeWeight);
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        record(event.getPostId(),
+                event.getType() == CommentChangedEvent.Type.CREATED ? commentWeight : -commentWeight);
+    }
+
+    @EventListener
+    public void onViewsFlushed(PostViewsFlushedEvent event) {
+        event.getViewCounts().forEach((postId, views) -> record(postId, viewWeight * views));
+    }
+
+    private void record(Long postId, double weight) {
+        lock.writeLock().lock();
+        try {
+            addScore(postId, weight, System.currentTimeMillis());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            ScoredPost removed = scores.remove(postId);
+            if (removed != null) {
+                ranking.remove(removed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출
+    private void addScore(Long postId, double weight, long eventTime) {
+        double factor = Math.exp(decayPerMillis * (eventTime - baseTime));
+        if (factor > REBASE_THRESHOLD) {
+            rebase(eventTime);
+            factor = 1;
+        }
+
+        ScoredPost current = scores.get(postId);
+        if (current == null && weight <= 0) {
+            return;
+        }
+
+        // 취소 이벤트(좋아요 취소, 댓글 삭제)는 원래 이벤트 시각이 아닌 현재 배율로 빼므로 근사값이며,
+        // 원래 기여분보다 많이 빠질 수 있어 0 아래로는 내려가지 않게 함 (정확한 값은 재구성 시 복구)
+        double score = Math.max(0, (current == null ? 0 : current.score()) + weight * factor);
+        if (current != null) {
+            ranking.remove(current);
+        }
+        ScoredPost updated = new ScoredPost(postId, score);
+        scores.put(postId, updated);
+        ranking.add(updated);
+
+        // 추적 대상이 너무 많으면 점수가 가장 낮은 게시글부터 제외
+        while (ranking.size() > maxTracked) {
+            scores.remove(ranking.pollLast().postId());
+        }
+    }
+
+    // 모든 점수에 같은 배율을 곱하므로 순서는 그대로 유지됨
+    private void rebase(long newBaseTime) {
+        double scale = Math.exp(-decayPerMillis * (newBaseTime - baseTime));
+        List<ScoredPost> rescaled = ranking.stream()
+                .map(post -> new ScoredPost(post.postId(), post.score() * scale))
+                .toList();
+        ranking.clear();
+        scores.clear();
+        for (ScoredPost post : rescaled) {
+            ranking.add(post);
+            scores.put(post.postId(), post);
+        }
+        baseTime = newBaseTime;
+    }
+
+    private record ScoredPost(Long postId, double score) {
+    }
+}
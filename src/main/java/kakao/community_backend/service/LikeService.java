@@ -1,12 +1,12 @@
 package kakao.community_backend.service;
 
-import kakao.community_backend.entity.Like;
-import kakao.community_backend.entity.Post;
-import kakao.community_backend.entity.User;
+import kakao.community_backend.dto.LikeToggleResult;
+import kakao.community_backend.event.PostLikedEvent;
 import kakao.community_backend.repository.LikeRepository;
 import kakao.community_backend.repository.PostRepository;
-import kakao.community_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,7 +18,7 @@ public class LikeService {
 
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 좋아요 상태 확인
     @Transactional(readOnly = true)
@@ -27,33 +27,45 @@ public class LikeService {
     }
 
     // 좋아요 토글
+    // 게시글 행을 먼저 잠가 같은 게시글에 대한 토글을 직렬화한 뒤
+    // (user_id, post_id) 유니크 키로 삭제 또는 삽입하고 좋아요 수를 DB에서 증감
     @Transactional
-    public boolean toggleLike(Long postId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다."));
-
-        Post post = postRepository.findById(postId)
+    public LikeToggleResult toggleLike(Long postId, Long userId) {
+        int likeCount = postRepository.findLikeCountForUpdate(postId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 게시글입니다."));
 
-        Optional<Like> existingLike = likeRepository.findByUserUserIdAndPostPostId(userId, postId);
+        if (likeRepository.deleteByUserIdAndPostId(userId, postId) > 0) {
+            // 좋아요가 이미 있었으면 삭제된 것
+            postRepository.addLikeCount(postId, -1);
+            eventPublisher.publishEvent(new PostLikedEvent(postId, false, likeCount - 1));
+            return new LikeToggleResult(false, likeCount - 1);
+        }
+
+        // 좋아요가 없으면 추가
+        try {
+            likeRepository.insertLike(userId, postId);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("존재하지 않는 사용자입니다.", e);
+        }
+        postRepository.addLikeCount(postId, 1);
+        eventPublisher.publishEvent(new PostLikedEvent(postId, true, likeCount + 1));
+        return new LikeToggleResult(true, likeCount + 1);
+    }
 
-        if (existingLike.isPresent()) {
-            // 좋아요가 이미 있으면 삭제
-            likeRepository.delete(existingLike.get());
-            post.setLikeCount(post.getLikeCount() - 1);
-            postRepository.save(post);
+    // 좋아요가 있으면 삭제하고 좋아요 수 감소 (탈퇴 처리용)
+    // 탈퇴 처리(AccountDeletionCascade.removeLikeBatch)는 트랜잭션 없이 호출하므로 호출마다 따로 커밋됨
+    // (트랜잭션 안에서 호출하면 그 트랜잭션에 참여해 게시글 잠금을 커밋 때까지 유지)
+    // 토글과 같은 순서(게시글 잠금 -> 좋아요 삭제)로 처리해 동시에 들어온 토글과 교착되지 않음
+    @Transactional
+    public boolean removeLike(Long postId, Long userId) {
+        Optional<Integer> likeCount = postRepository.findLikeCountForUpdate(postId);
+        if (likeRepository.deleteByUserIdAndPostId(userId, postId) == 0) {
             return false;
-        } else {
-            // 좋아요가 없으면 추가
-            Like like = Like.builder()
-                    .user(user)
-                    .post(post)
-                    .build();
-            likeRepository.save(like);
-            post.setLikeCount(post.getLikeCount() + 1);
-            postRepository.save(post);
-            return true;
         }
+        postRepository.addLikeCount(postId, -1);
+        // 삭제된 게시글이면 캐시/순위에 반영할 필요 없음
+        likeCount.ifPresent(count -> eventPublisher.publishEvent(new PostLikedEvent(postId, false, count - 1)));
+        return true;
     }
 
     // 게시글의 좋아요 수 조회
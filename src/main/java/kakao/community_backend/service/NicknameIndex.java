@@ -0,0 +1,101 @@
+// NicknameIndex.java
+package kakao.community_backend.service;
+
+import kakao.community_backend.dto.UserSummaryDto;
+import kakao.community_backend.entity.User;
+import kakao.community_backend.event.UserChangedEvent;
+import kakao.community_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 활성 사용자 닉네임 접두어 검색용 정렬 색인 (대소문자 구분 없음)
+// 조회는 락 없이 정렬 맵의 범위 탐색으로 처리하고, 회원 가입/수정/탈퇴 이벤트로 갱신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameIndex {
+
+    // 정규화한 닉네임 뒤에 붙여 같은 닉네임(대소문자만 다른 경우 등)도 구분
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final UserRepository userRepository;
+
+    private final ConcurrentSkipListMap<String, UserSummaryDto> entries = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> keysByUserId = new ConcurrentHashMap<>();
+
+    // 접두어로 시작하는 닉네임을 사전 순으로 최대 limit개 반환 (반환 객체는 복사본)
+    public List<UserSummaryDto> findByPrefix(String prefix, int limit) {
+        List<UserSummaryDto> result = new ArrayList<>();
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return result;
+        }
+
+        String from = normalize(prefix);
+        NavigableMap<String, UserSummaryDto> range = entries.subMap(from, true, from + Character.MAX_VALUE, false);
+        for (UserSummaryDto entry : range.values()) {
+            result.add(new UserSummaryDto(entry.getUserId(), entry.getNickname(), entry.getProfileImageUrl()));
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return keysByUserId.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<User> users = userRepository.findByIsDeletedFalse();
+        for (User user : users) {
+            put(user.getUserId(), user.getNickname(), user.getProfileImageUrl());
+        }
+        log.info("닉네임 색인 구성 완료: {}건", users.size());
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            remove(event.getUserId());
+        } else {
+            put(event.getUserId(), event.getNickname(), event.getProfileImageUrl());
+        }
+    }
+
+    // 이전 키 제거와 새 키 등록이 섞이지 않도록 쓰기만 직렬화 (조회는 락 없음)
+    private synchronized void put(Long userId, String nickname, String profileImageUrl) {
+        if (nickname == null) {
+            return;
+        }
+        String key = normalize(nickname) + KEY_SEPARATOR + userId;
+        String previous = keysByUserId.put(userId, key);
+        if (previous != null && !previous.equals(key)) {
+            entries.remove(previous);
+        }
+        entries.put(key, new UserSummaryDto(userId, nickname, profileImageUrl));
+    }
+
+    private synchronized void remove(Long userId) {
+        String key = keysByUserId.remove(userId);
+        if (key != null) {
+            entries.remove(key);
+        }
+    }
+
+    private String normalize(String nickname) {
+        return nickname.strip().toLowerCase(Locale.ROOT);
+    }
+}
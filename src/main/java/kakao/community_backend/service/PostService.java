@@ -1,18 +1,25 @@
 // PostService.java (인터페이스)
 package kakao.community_backend.service;
 
+import kakao.community_backend.dto.CursorSlice;
+import kakao.community_backend.dto.LikeToggleResult;
+import kakao.community_backend.dto.PostBatchResult;
 import kakao.community_backend.dto.PostDto;
 import org.springframework.data.domain.Page;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
 public interface PostService {
     Page<PostDto> getAllPosts(int page, int size, String sort);
+    CursorSlice<PostDto> getPostsByCursor(String cursor, int size, String sort);
+    Page<PostDto> searchPosts(String query, int page, int size);
     PostDto getPostById(Long postId);
-    Long createPost(Long userId, String title, String content, List<MultipartFile> images);
-    void updatePost(Long userId, Long postId, String title, String content, List<MultipartFile> images, List<Long> deleteImageIds);
+    String getPostVersion(Long postId);
+    PostBatchResult getPostsByIds(List<Long> postIds);
+    Long createPost(Long userId, String title, String content, List<String> imageUrls);
+    void checkEditable(Long userId, Long postId);
+    void updatePost(Long userId, Long postId, String title, String content, List<String> imageUrls, List<Long> deleteImageIds);
     void deletePost(Long userId, Long postId);
-    boolean toggleLike(Long userId, Long postId);
+    LikeToggleResult toggleLike(Long userId, Long postId);
     int getLikeCount(Long postId);
 }
\ No newline at end of file
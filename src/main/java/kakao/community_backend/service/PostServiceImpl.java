@@ -1,64 +1,238 @@
 // PostServiceImpl.java
 package kakao.community_backend.service;
 
+import kakao.community_backend.cache.FeedCache;
+import kakao.community_backend.dto.CursorSlice;
+import kakao.community_backend.dto.LikeToggleResult;
+import kakao.community_backend.dto.PostBatchResult;
 import kakao.community_backend.dto.PostDto;
-import kakao.community_backend.entity.Like;
+import kakao.community_backend.dto.PostImageDto;
 import kakao.community_backend.entity.Post;
+import kakao.community_backend.entity.PostImage;
 import kakao.community_backend.entity.User;
+import kakao.community_backend.event.PostChangedEvent;
+import kakao.community_backend.exception.InvalidRequestException;
+import kakao.community_backend.repository.CommentRepository;
 import kakao.community_backend.repository.LikeRepository;
+import kakao.community_backend.repository.PostCommentCount;
+import kakao.community_backend.repository.PostFeedRow;
+import kakao.community_backend.repository.PostImageRepository;
 import kakao.community_backend.repository.PostRepository;
+import kakao.community_backend.repository.PostVersion;
 import kakao.community_backend.repository.UserRepository;
+import kakao.community_backend.search.PostSearchIndex;
+import kakao.community_backend.search.SearchResult;
+import kakao.community_backend.storage.ImageVariant;
+import kakao.community_backend.storage.ImageVariantService;
+import kakao.community_backend.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 
+    private static final String LATEST_CURSOR = "L";
+    private static final String POPULAR_CURSOR = "P";
+    private static final int MAX_BATCH_SIZE = 50;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final PostImageRepository postImageRepository;
+    private final LikeService likeService;
+    private final ViewCountAggregator viewCountAggregator;
+    private final FeedCache feedCache;
+    private final HotPostRanking hotPostRanking;
+    private final PostSearchIndex postSearchIndex;
+    private final ImageVariantService imageVariantService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 프로젝션만 조회하므로 트랜잭션 없이 실행 (캐시 적중 시 DB 커넥션을 잡지 않음)
     @Override
-    @Transactional(readOnly = true)
     public Page<PostDto> getAllPosts(int page, int size, String sort) {
-        Pageable pageable;
+        if ("hot".equals(sort)) {
+            return loadHotPosts(page, size);
+        }
+
+        String sortKey = "popular".equals(sort) ? "popular" : "latest";
+        if (feedCache.isCacheable(page)) {
+            return feedCache.getOrLoad(sortKey, page, size, () -> loadPosts(page, size, sortKey));
+        }
+        return loadPosts(page, size, sortKey);
+    }
+
+    private Page<PostDto> loadPosts(int page, int size, String sort) {
+        Pageable pageable = PageRequest.of(page, size);
+
+        Page<PostFeedRow> posts = "popular".equals(sort)
+                ? postRepository.findPopularFeed(pageable)
+                : postRepository.findLatestFeed(pageable);
+
+        // 페이지 내 게시글의 댓글 수를 한 번의 쿼리로 조회
+        Map<Long, Long> commentCounts = countComments(posts.getContent().stream()
+                .map(PostFeedRow::postId)
+                .toList());
+        return posts.map(post -> convertToDto(post, commentCounts.getOrDefault(post.postId(), 0L)));
+    }
+
+    // 인기 순위는 메모리에서 가져오고 해당 게시글만 ID로 조회 (Posts 테이블 정렬 없음)
+    private Page<PostDto> loadHotPosts(int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        List<Long> postIds = hotPostRanking.getPostIds((int) pageable.getOffset(), size);
+        return loadPostsByIds(postIds, pageable, hotPostRanking.size());
+    }
+
+    // 검색 색인에서 점수 순으로 ID를 가져오고 해당 게시글만 조회
+    @Override
+    public Page<PostDto> searchPosts(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해주세요");
+        }
+
+        Pageable pageable = PageRequest.of(page, size);
+        SearchResult result = postSearchIndex.search(query, (int) pageable.getOffset(), size);
+        return loadPostsByIds(result.postIds(), pageable, result.totalHits());
+    }
+
+    // 주어진 ID 순서대로 목록용 DTO 구성 (그 사이 삭제된 게시글은 제외)
+    private Page<PostDto> loadPostsByIds(List<Long> postIds, Pageable pageable, long total) {
+        if (postIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        Map<Long, PostFeedRow> rows = postRepository.findFeedByIds(postIds).stream()
+                .collect(Collectors.toMap(PostFeedRow::postId, Function.identity()));
+        Map<Long, Long> commentCounts = countComments(postIds);
+
+        List<PostDto> content = postIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(post -> convertToDto(post, commentCounts.getOrDefault(post.postId(), 0L)))
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<PostDto> getPostsByCursor(String cursor, int size, String sort) {
+        Pageable pageable = PageRequest.of(0, size);
+        boolean popular = "popular".equals(sort);
 
-        if ("popular".equals(sort)) {
-            pageable = PageRequest.of(page, size, Sort.by("likeCount").descending());
+        // 커서 이후의 게시글을 인덱스 탐색으로 조회 (OFFSET, COUNT 쿼리 없음)
+        Slice<PostFeedRow> posts;
+        if (cursor == null || cursor.isEmpty()) {
+            posts = popular
+                    ? postRepository.findPopularFeedSlice(pageable)
+                    : postRepository.findLatestFeedSlice(pageable);
+        } else if (popular) {
+            String[] parts = CursorUtil.decode(cursor, POPULAR_CURSOR, 2);
+            posts = postRepository.findPopularFeedAfter(
+                    (int) CursorUtil.toLong(parts[0]), CursorUtil.toLong(parts[1]), pageable);
         } else {
-            pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+            String[] parts = CursorUtil.decode(cursor, LATEST_CURSOR, 2);
+            posts = postRepository.findLatestFeedAfter(
+                    CursorUtil.toDateTime(parts[0]), CursorUtil.toLong(parts[1]), pageable);
+        }
+
+        List<PostFeedRow> rows = posts.getContent();
+        Map<Long, Long> commentCounts = countComments(rows.stream()
+                .map(PostFeedRow::postId)
+                .toList());
+
+        String nextCursor = null;
+        if (posts.hasNext()) {
+            PostFeedRow last = rows.get(rows.size() - 1);
+            nextCursor = popular
+                    ? CursorUtil.encode(POPULAR_CURSOR, String.valueOf(last.likeCount()), String.valueOf(last.postId()))
+                    : CursorUtil.encode(LATEST_CURSOR, last.createdAt().toString(), String.valueOf(last.postId()));
         }
 
-        Page<Post> posts = postRepository.findByIsDeletedFalse(pageable);
-        return posts.map(this::convertToDto);
+        return CursorSlice.<PostDto>builder()
+                .content(rows.stream()
+                        .map(post -> convertToDto(post, commentCounts.getOrDefault(post.postId(), 0L)))
+                        .toList())
+                .nextCursor(nextCursor)
+                .hasNext(posts.hasNext())
+                .build();
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDto getPostById(Long postId) {
         Post post = postRepository.findByPostIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new RuntimeException("해당 ID의 게시글을 찾을 수 없습니다: " + postId));
 
-        // 조회수 증가
-        post.setViewCount(post.getViewCount() + 1);
-        postRepository.save(post);
+        // 조회수 증가 (집계기에 누적 후 주기적으로 DB에 반영)
+        viewCountAggregator.increment(postId);
+
+        PostDto postDto = convertToDto(post, commentRepository.countByPostPostIdAndIsDeletedFalse(postId));
+        postDto.setImages(postImageRepository.findByPostPostIdAndIsDeletedFalseOrderBySortOrderAsc(postId).stream()
+                .map(image -> new PostImageDto(image.getImageId(), image.getImageUrl(),
+                        imageVariantService.variantUrl(image.getImageUrl(), ImageVariant.THUMBNAIL)))
+                .toList());
+        return postDto;
+    }
+
+    // 상세 응답의 변경 여부를 판단할 버전 문자열 (게시글이 없으면 null)
+    // 변형 이미지는 비동기로 생성되므로 생성 여부도 포함해 완료되면 새 응답을 받게 함
+    @Override
+    public String getPostVersion(Long postId) {
+        return postRepository.findVersionById(postId)
+                .map(version -> version.toETagValue() + "." + Long.toString(variantState(postId, version), 36))
+                .orElse(null);
+    }
+
+    // 여러 게시글을 한 번에 조회 (게시글+작성자 1회, 댓글 수 1회 쿼리, 조회수는 증가시키지 않음)
+    @Override
+    @Transactional(readOnly = true)
+    public PostBatchResult getPostsByIds(List<Long> postIds) {
+        List<Long> requested = postIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("한 번에 조회할 수 있는 게시글은 최대 " + MAX_BATCH_SIZE + "개입니다");
+        }
+        if (requested.isEmpty()) {
+            return new PostBatchResult(List.of(), List.of());
+        }
 
-        return convertToDto(post);
+        Map<Long, Post> posts = postRepository.findAllWithUserByIds(requested).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+        Map<Long, Long> commentCounts = countComments(new ArrayList<>(posts.keySet()));
+
+        List<PostDto> found = new ArrayList<>(posts.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long postId : requested) {
+            Post post = posts.get(postId);
+            if (post == null) {
+                missingIds.add(postId);
+            } else {
+                found.add(convertToDto(post, commentCounts.getOrDefault(postId, 0L)));
+            }
+        }
+        return new PostBatchResult(found, missingIds);
     }
 
     @Override
     @Transactional
-    public Long createPost(Long userId, String title, String content, List<MultipartFile> images) {
+    public Long createPost(Long userId, String title, String content, List<String> imageUrls) {
         if (userId == null) {
             userId = 1L; // 테스트용 사용자 ID
             System.out.println("임시 해결책 적용: 사용자 ID를 1로 설정");
@@ -78,53 +252,62 @@ public class PostServiceImpl implements PostService {
                 .isDeleted(false)
                 .build();
 
-        // 이미지 처리 (첫 번째 이미지만 대표 이미지로 설정)
-        if (images != null && !images.isEmpty()) {
-            try {
-                // 실제 구현에서는 파일 저장 서비스를 사용하여 파일을 저장하고 URL을 반환받아야 함
-                // 여기서는 간단하게 첫 번째 파일명만 저장한다고 가정
-                String imageUrl = "/uploads/" + images.get(0).getOriginalFilename();
-                post.setContentImageUrl(imageUrl);
-            } catch (Exception e) {
-                throw new RuntimeException("이미지 업로드에 실패했습니다", e);
-            }
+        // 첫 번째 이미지를 대표 이미지로 설정
+        if (imageUrls != null && !imageUrls.isEmpty()) {
+            post.setContentImageUrl(imageUrls.get(0));
         }
 
         // 저장
         Post savedPost = postRepository.save(post);
+        addImages(savedPost, imageUrls, 0);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getPostId(), PostChangedEvent.Type.CREATED));
         return savedPost.getPostId();
     }
 
     @Override
-    @Transactional
-    public void updatePost(Long userId, Long postId, String title, String content, List<MultipartFile> images, List<Long> deleteImageIds) {
-        // 게시글 조회
-        Post post = postRepository.findByPostIdAndIsDeletedFalse(postId)
-                .orElseThrow(() -> new RuntimeException("해당 ID의 게시글을 찾을 수 없습니다: " + postId));
+    @Transactional(readOnly = true)
+    public void checkEditable(Long userId, Long postId) {
+        findEditablePost(userId, postId);
+    }
 
-        // 권한 확인
-        if (!post.getUser().getUserId().equals(userId)) {
-            throw new RuntimeException("해당 게시글을 수정할 권한이 없습니다");
-        }
+    @Override
+    @Transactional
+    public void updatePost(Long userId, Long postId, String title, String content, List<String> imageUrls, List<Long> deleteImageIds) {
+        Post post = findEditablePost(userId, postId);
 
         // 게시글 정보 업데이트
         post.setTitle(title);
         post.setContent(content);
 
         // 이미지 처리 (기존 이미지 삭제 및 새 이미지 추가)
-        if (images != null && !images.isEmpty()) {
-            try {
-                // 실제 구현에서는 파일 저장 서비스를 사용하여 파일을 저장하고 URL을 반환받아야 함
-                // 여기서는 간단하게 첫 번째 파일명만 저장한다고 가정
-                String imageUrl = "/uploads/" + images.get(0).getOriginalFilename();
-                post.setContentImageUrl(imageUrl);
-            } catch (Exception e) {
-                throw new RuntimeException("이미지 업로드에 실패했습니다", e);
+        List<PostImage> images = postImageRepository.findByPostPostIdAndIsDeletedFalseOrderBySortOrderAsc(postId);
+        if (deleteImageIds != null && !deleteImageIds.isEmpty()) {
+            for (PostImage image : images) {
+                if (deleteImageIds.contains(image.getImageId())) {
+                    image.setDeleted(true);
+                }
             }
+            postImageRepository.saveAll(images);
+        }
+
+        List<PostImage> remaining = images.stream()
+                .filter(image -> !image.isDeleted())
+                .toList();
+        int nextSortOrder = images.isEmpty() ? 0 : images.get(images.size() - 1).getSortOrder() + 1;
+        List<PostImage> added = addImages(post, imageUrls, nextSortOrder);
+
+        // 남은 이미지 중 첫 번째를 대표 이미지로 설정
+        if (!remaining.isEmpty()) {
+            post.setContentImageUrl(remaining.get(0).getImageUrl());
+        } else if (!added.isEmpty()) {
+            post.setContentImageUrl(added.get(0).getImageUrl());
+        } else {
+            post.setContentImageUrl(null);
         }
 
         // 저장
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.UPDATED));
     }
 
     @Override
@@ -142,67 +325,111 @@ public class PostServiceImpl implements PostService {
         // 논리적 삭제 처리
         post.setDeleted(true);
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.DELETED));
     }
 
     @Override
-    @Transactional
-    public boolean toggleLike(Long userId, Long postId) {
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+    public LikeToggleResult toggleLike(Long userId, Long postId) {
+        return likeService.toggleLike(postId, userId);
+    }
 
-        // 게시글 조회
+    @Override
+    @Transactional(readOnly = true)
+    public int getLikeCount(Long postId) {
+        return likeRepository.countByPostPostId(postId);
+    }
+
+    // 게시글 이미지 저장 (sortOrder부터 순서대로)
+    // 게시글 조회 + 작성자 권한 확인
+    private Post findEditablePost(Long userId, Long postId) {
         Post post = postRepository.findByPostIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new RuntimeException("해당 ID의 게시글을 찾을 수 없습니다: " + postId));
 
-        // 좋아요 상태 확인
-        Optional<Like> existingLike = likeRepository.findByUserUserIdAndPostPostId(userId, postId);
+        if (!post.getUser().getUserId().equals(userId)) {
+            throw new RuntimeException("해당 게시글을 수정할 권한이 없습니다");
+        }
+        return post;
+    }
+
+    private List<PostImage> addImages(Post post, List<String> imageUrls, int sortOrder) {
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return List.of();
+        }
 
-        if (existingLike.isPresent()) {
-            // 좋아요 취소
-            likeRepository.delete(existingLike.get());
-            post.setLikeCount(post.getLikeCount() - 1);
-            postRepository.save(post);
-            return false;
-        } else {
-            // 좋아요 추가
-            Like like = Like.builder()
-                    .user(user)
+        List<PostImage> images = new ArrayList<>(imageUrls.size());
+        for (String imageUrl : imageUrls) {
+            images.add(PostImage.builder()
                     .post(post)
-                    .build();
-            likeRepository.save(like);
-            post.setLikeCount(post.getLikeCount() + 1);
-            postRepository.save(post);
-            return true;
+                    .imageUrl(imageUrl)
+                    .sortOrder(sortOrder++)
+                    .isDeleted(false)
+                    .build());
         }
+        return postImageRepository.saveAll(images);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public int getLikeCount(Long postId) {
-        return likeRepository.countByPostPostId(postId);
+    // 게시글 목록의 댓글 수 조회 (게시글 ID -> 삭제되지 않은 댓글 수)
+    private Map<Long, Long> countComments(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return commentRepository.countByPostIds(postIds).stream()
+                .collect(Collectors.toMap(PostCommentCount::getPostId, PostCommentCount::getCommentCount));
     }
 
-    // 엔티티를 DTO로 변환하는 유틸리티 메서드
-    private PostDto convertToDto(Post post) {
-        // 댓글 수 계산 (삭제되지 않은 댓글만 카운트)
-        long commentCount = post.getComments().stream()
-                .filter(comment -> !comment.isDeleted())
-                .count();
+    // 상세 응답에 들어가는 변형 URL마다 생성 여부를 한 자리씩 반영한 값
+    private long variantState(Long postId, PostVersion version) {
+        long state = 1;
+        state = state * 31 + (imageVariantService.isReady(version.contentImageUrl(), ImageVariant.FEED) ? 1 : 0);
+        state = state * 31 + (imageVariantService.isReady(version.authorProfileImageUrl(), ImageVariant.THUMBNAIL) ? 1 : 0);
+        if (version.imageCount() > 0) {
+            for (String imageUrl : postImageRepository.findImageUrlsByPostId(postId)) {
+                state = state * 31 + (imageVariantService.isReady(imageUrl, ImageVariant.THUMBNAIL) ? 1 : 0);
+            }
+        }
+        return state;
+    }
 
+    // 엔티티를 DTO로 변환하는 유틸리티 메서드
+    private PostDto convertToDto(Post post, long commentCount) {
         return PostDto.builder()
                 .postId(post.getPostId())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .contentImageUrl(post.getContentImageUrl())
-                .viewCount(post.getViewCount())
+                .contentImageFeedUrl(imageVariantService.variantUrl(post.getContentImageUrl(), ImageVariant.FEED))
+                .viewCount(post.getViewCount() + (int) viewCountAggregator.getPendingCount(post.getPostId()))
                 .likeCount(post.getLikeCount())
                 .authorId(post.getUser().getUserId())
                 .authorNickname(post.getUser().getNickname())
                 .authorProfileImageUrl(post.getUser().getProfileImageUrl())
+                .authorProfileThumbnailUrl(imageVariantService.variantUrl(
+                        post.getUser().getProfileImageUrl(), ImageVariant.THUMBNAIL))
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .commentCount((int) commentCount) // 댓글 수 설정
                 .build();
     }
+
+    // 목록 조회용 프로젝션을 DTO로 변환 (content에는 본문 요약본이 담김)
+    private PostDto convertToDto(PostFeedRow post, long commentCount) {
+        return PostDto.builder()
+                .postId(post.postId())
+                .title(post.title())
+                .content(post.contentExcerpt())
+                .contentImageUrl(post.contentImageUrl())
+                .contentImageFeedUrl(imageVariantService.variantUrl(post.contentImageUrl(), ImageVariant.FEED))
+                .viewCount(post.viewCount() + (int) viewCountAggregator.getPendingCount(post.postId()))
+                .likeCount(post.likeCount())
+                .authorId(post.authorId())
+                .authorNickname(post.authorNickname())
+                .authorProfileImageUrl(post.authorProfileImageUrl())
+                .authorProfileThumbnailUrl(imageVariantService.variantUrl(
+                        post.authorProfileImageUrl(), ImageVariant.THUMBNAIL))
+                .createdAt(post.createdAt())
+                .updatedAt(post.updatedAt())
+                .commentCount((int) commentCount)
+                .build();
+    }
 }
\ No newline at end of file
@@ -5,15 +5,18 @@ import kakao.community_backend.dto.PasswordUpdateRequest;
 import kakao.community_backend.dto.SignupRequest;
 import kakao.community_backend.dto.TokenResponse;
 import kakao.community_backend.dto.UserDto;
-import org.springframework.web.multipart.MultipartFile;
+import kakao.community_backend.dto.UserSummaryDto;
+
+import java.util.List;
 
 public interface UserService {
     UserDto createUser(SignupRequest request);
     TokenResponse login(String email, String password);
     void updatePassword(Long userId, PasswordUpdateRequest request);
-    UserDto updateProfile(Long userId, String nickname, MultipartFile profileImage);
+    UserDto updateProfile(Long userId, String nickname, String profileImageUrl);
     void deleteUser(Long userId);
     UserDto getUserById(Long userId);
     UserDto getUserByEmail(String email);
     TokenResponse refreshToken(String refreshToken);
+    List<UserSummaryDto> autocompleteNickname(String prefix, int limit);
 }
\ No newline at end of file
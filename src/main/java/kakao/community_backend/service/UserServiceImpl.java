@@ -5,62 +5,70 @@ import kakao.community_backend.dto.PasswordUpdateRequest;
 import kakao.community_backend.dto.SignupRequest;
 import kakao.community_backend.dto.TokenResponse;
 import kakao.community_backend.dto.UserDto;
+import kakao.community_backend.dto.UserSummaryDto;
 import kakao.community_backend.entity.User;
+import kakao.community_backend.event.UserChangedEvent;
 import kakao.community_backend.exception.DuplicateResourceException;
 import kakao.community_backend.repository.UserRepository;
 import kakao.community_backend.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    // 자동완성 결과 최대 개수
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 20;
+
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
-    private final PasswordEncoder passwordEncoder; // 생성자 주입으로 변경
+    private final PasswordHashingExecutor passwordHashingExecutor; // BCrypt는 전용 실행기에서 처리
+    private final NicknameIndex nicknameIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate; // 해싱이 끝난 뒤 저장만 짧은 트랜잭션으로 처리
 
+    // login과 마찬가지로 해싱 대기 중 DB 커넥션을 잡고 있지 않도록 해싱은 트랜잭션 밖에서 실행
     @Override
-    @Transactional
     public UserDto createUser(SignupRequest request) {
-        // 이메일 중복 확인
-        if (userRepository.findByEmailAndIsDeletedFalse(request.getEmail()).isPresent()) {
-            throw new DuplicateResourceException("email", "이미 사용 중인 이메일입니다");
-        }
-
-        // 닉네임 중복 확인
-        if (userRepository.findByNickname(request.getNickname()).isPresent()) {
-            throw new DuplicateResourceException("nickname", "이미 사용 중인 닉네임입니다");
-        }
+        // 중복이면 해싱 전에 바로 거절
+        checkDuplicate(request.getEmail(), request.getNickname());
 
         // 비밀번호 일치 확인
         if (!request.getPassword().equals(request.getPasswordCheck())) {
             throw new RuntimeException("비밀번호가 일치하지 않습니다");
         }
 
-        // 사용자 엔티티 생성
-        User user = User.builder()
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .nickname(request.getNickname())
-                .profileImageUrl(request.getProfileImage())
-                .isDeleted(false)
-                .build();
-
-        // 저장 및 DTO 변환 반환
-        User savedUser = userRepository.save(user);
-        return convertToDto(savedUser);
+        String encodedPassword = passwordHashingExecutor.encode(request.getPassword());
+
+        return transactionTemplate.execute(status -> {
+            // 해싱하는 동안 같은 이메일/닉네임으로 가입했을 수 있으므로 다시 확인
+            checkDuplicate(request.getEmail(), request.getNickname());
+
+            // 사용자 엔티티 생성
+            User user = User.builder()
+                    .email(request.getEmail())
+                    .password(encodedPassword)
+                    .nickname(request.getNickname())
+                    .profileImageUrl(request.getProfileImage())
+                    .isDeleted(false)
+                    .build();
+
+            // 저장 및 DTO 변환 반환
+            User savedUser = userRepository.save(user);
+            publishUserChanged(savedUser, UserChangedEvent.Type.CREATED);
+            return convertToDto(savedUser);
+        });
     }
 
+    // 비밀번호 검증 대기 중 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행
     @Override
-    @Transactional(readOnly = true)
     public TokenResponse login(String email, String password) {
         // 사용자 찾기
         User user = userRepository.findByEmailAndIsDeletedFalse(email)
@@ -72,7 +80,7 @@ public class UserServiceImpl implements UserService {
         }
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordHashingExecutor.matches(password, user.getPassword())) {
             throw new RuntimeException("이메일 또는 비밀번호가 일치하지 않습니다");
         }
 
@@ -91,15 +99,15 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
+    // 검증과 해싱은 트랜잭션 밖에서 하고 변경된 해시만 짧은 트랜잭션으로 저장
     @Override
-    @Transactional
     public void updatePassword(Long userId, PasswordUpdateRequest request) {
         // 사용자 찾기
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
         // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
+        if (!passwordHashingExecutor.matches(request.getCurrentPassword(), user.getPassword())) {
             throw new RuntimeException("현재 비밀번호가 일치하지 않습니다");
         }
 
@@ -108,14 +116,20 @@ public class UserServiceImpl implements UserService {
             throw new RuntimeException("새 비밀번호가 일치하지 않습니다");
         }
 
+        String encodedPassword = passwordHashingExecutor.encode(request.getNewPassword());
+
         // 비밀번호 업데이트
-        user.setPassword(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
+        transactionTemplate.executeWithoutResult(status -> {
+            User current = userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+            current.setPassword(encodedPassword);
+            userRepository.save(current);
+        });
     }
 
     @Override
     @Transactional
-    public UserDto updateProfile(Long userId, String nickname, MultipartFile profileImage) {
+    public UserDto updateProfile(Long userId, String nickname, String profileImageUrl) {
         // 사용자 찾기
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
@@ -128,20 +142,14 @@ public class UserServiceImpl implements UserService {
             user.setNickname(nickname);
         }
 
-        // 프로필 이미지 업로드 처리
-        if (profileImage != null && !profileImage.isEmpty()) {
-            try {
-                // 실제 구현에서는 파일 저장 서비스를 사용하여 파일을 저장하고 URL을 반환받아야 함
-                // 여기서는 간단하게 파일명만 저장한다고 가정
-                String imageUrl = "/uploads/" + profileImage.getOriginalFilename();
-                user.setProfileImageUrl(imageUrl);
-            } catch (Exception e) {
-                throw new RuntimeException("프로필 이미지 업로드에 실패했습니다", e);
-            }
+        // 프로필 이미지 변경 (파일은 컨트롤러에서 저장소에 저장된 상태)
+        if (profileImageUrl != null) {
+            user.setProfileImageUrl(profileImageUrl);
         }
 
         // 저장 및 DTO 변환 반환
         User savedUser = userRepository.save(user);
+        publishUserChanged(savedUser, UserChangedEvent.Type.UPDATED);
         return convertToDto(savedUser);
     }
 
@@ -152,9 +160,10 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
-        // 논리적 삭제 처리
+        // 논리적 삭제 처리 (게시글/댓글/좋아요는 커밋 후 AccountDeletionCascade가 배치로 정리)
         user.setDeleted(true);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId, UserChangedEvent.Type.DELETED, null, null));
     }
 
     @Override
@@ -176,14 +185,12 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public TokenResponse refreshToken(String refreshToken) {
-        // 리프레시 토큰 검증
-        if (!jwtUtil.validateToken(refreshToken)) {
+        // 리프레시 토큰 검증 및 사용자 ID 추출
+        Long userId = jwtUtil.verifyAndExtractUserId(refreshToken);
+        if (userId == null) {
             throw new RuntimeException("유효하지 않은 리프레시 토큰입니다");
         }
 
-        // 토큰에서 사용자 ID 추출
-        Long userId = jwtUtil.extractUserId(refreshToken);
-
         // 사용자 찾기
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
@@ -203,6 +210,16 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
+    // 이메일 또는 닉네임이 이미 사용 중이면 예외
+    private void checkDuplicate(String email, String nickname) {
+        if (userRepository.findByEmailAndIsDeletedFalse(email).isPresent()) {
+            throw new DuplicateResourceException("email", "이미 사용 중인 이메일입니다");
+        }
+        if (userRepository.findByNickname(nickname).isPresent()) {
+            throw new DuplicateResourceException("nickname", "이미 사용 중인 닉네임입니다");
+        }
+    }
+
     // 엔티티를 DTO로 변환하는 유틸리티 메서드
     private UserDto convertToDto(User user) {
         return UserDto.builder()
@@ -213,4 +230,15 @@ public class UserServiceImpl implements UserService {
                 .createdAt(user.getCreatedAt())
                 .build();
     }
+
+    // 메모리 색인에서 조회 (DB 조회 없음)
+    @Override
+    public List<UserSummaryDto> autocompleteNickname(String prefix, int limit) {
+        return nicknameIndex.findByPrefix(prefix, Math.min(limit, MAX_AUTOCOMPLETE_LIMIT));
+    }
+
+    private void publishUserChanged(User user, UserChangedEvent.Type type) {
+        eventPublisher.publishEvent(new UserChangedEvent(
+                user.getUserId(), type, user.getNickname(), user.getProfileImageUrl()));
+    }
 }
\ No newline at end of file
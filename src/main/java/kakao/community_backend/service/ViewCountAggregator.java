@@ -0,0 +1,106 @@
+// ViewCountAggregator.java
+package kakao.community_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import kakao.community_backend.event.PostViewsFlushedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수를 메모리에 모아 두었다가 주기적으로 DB에 일괄 반영하는 집계기
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountAggregator {
+
+    private static final String FLUSH_SQL = "UPDATE Posts SET view_count = view_count + ? WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 게시글별 미반영 조회수 (LongAdder 셀 단위로 분산되어 락 없이 누적됨)
+    private final ConcurrentHashMap<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+    // 조회수 1 증가 후 아직 DB에 반영되지 않은 조회수 반환
+    public long increment(Long postId) {
+        add(postId, 1);
+        return getPendingCount(postId);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPendingCount(Long postId) {
+        LongAdder adder = pendingCounts.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+
+        // 배치 중간에 실패하면 앞서 반영된 행까지 롤백되도록 한 트랜잭션으로 실행
+        // (자동 커밋이면 일부만 반영된 채 전체를 되돌려 놓아 다음 주기에 두 번 더해짐)
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+        } catch (DataAccessException | TransactionException e) {
+            // 반영에 실패한 조회수는 다음 주기에 다시 시도하도록 되돌려 놓음
+            deltas.forEach(this::add);
+            log.warn("조회수 반영에 실패했습니다. 다음 주기에 재시도합니다: {}건", deltas.size(), e);
+            return;
+        }
+
+        eventPublisher.publishEvent(new PostViewsFlushedEvent(deltas));
+    }
+
+    // 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(Long postId, long delta) {
+        while (delta > 0) {
+            LongAdder adder = pendingCounts.computeIfAbsent(postId, id -> new LongAdder());
+            adder.add(delta);
+            if (pendingCounts.get(postId) == adder) {
+                return;
+            }
+            // drain 중 맵에서 제거된 카운터에 기록된 경우 남은 값을 새 카운터로 옮김
+            delta = adder.sumThenReset();
+        }
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pendingCounts.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            // 한 주기 동안 조회가 없던 게시글은 맵에서 제거 (제거 직전 기록된 값은 여기서 회수)
+            if (delta == 0 && pendingCounts.remove(postId, adder)) {
+                delta = adder.sumThenReset();
+            }
+            if (delta > 0) {
+                deltas.merge(postId, delta, Long::sum);
+            }
+        });
+        return deltas;
+    }
+}
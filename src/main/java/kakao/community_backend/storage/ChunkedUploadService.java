@@ -0,0 +1,229 @@
+// ChunkedUploadService.java
+package kakao.community_backend.storage;
+
+import kakao.community_backend.dto.UploadSessionDto;
+import kakao.community_backend.exception.ForbiddenException;
+import kakao.community_backend.exception.InvalidRequestException;
+import kakao.community_backend.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// 이어받기 가능한 분할 업로드
+// 청크를 요청 본문에서 임시 파일의 해당 위치로 바로 기록하므로 파일 크기와 관계없이 메모리 사용량이 일정하고,
+// 실패한 청크만 다시 보내면 됨 (같은 위치에 덮어쓰므로 재전송해도 결과가 같음)
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private final ImageStorageService imageStorageService;
+    private final Path sessionDir;
+    private final int chunkSize;
+    private final long maxFileSize;
+    private final long sessionTtlMillis;
+    private final int maxSessionsPerUser;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    public ChunkedUploadService(ImageStorageService imageStorageService,
+                                @Value("${storage.upload-dir:./uploads}") String uploadDir,
+                                @Value("${storage.chunked.chunk-size:1MB}") DataSize chunkSize,
+                                @Value("${storage.chunked.max-file-size:50MB}") DataSize maxFileSize,
+                                @Value("${storage.chunked.session-ttl-ms:86400000}") long sessionTtlMillis,
+                                @Value("${storage.chunked.max-sessions-per-user:5}") int maxSessionsPerUser) throws IOException {
+        this.imageStorageService = imageStorageService;
+        // 완료 시 원자적으로 이동할 수 있도록 저장소와 같은 파일시스템에 둠
+        this.sessionDir = Paths.get(uploadDir).toAbsolutePath().normalize().resolve(".sessions");
+        this.chunkSize = (int) chunkSize.toBytes();
+        this.maxFileSize = maxFileSize.toBytes();
+        this.sessionTtlMillis = sessionTtlMillis;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+        Files.createDirectories(sessionDir);
+        deleteLeftovers();
+    }
+
+    public UploadSessionDto start(Long userId, String filename, long totalSize) {
+        imageStorageService.validateFilename(filename);
+        if (totalSize <= 0 || totalSize > maxFileSize) {
+            throw new InvalidRequestException("업로드할 수 있는 파일 크기를 초과했습니다");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Path file = sessionDir.resolve(uploadId + ".part");
+        UploadSession session = new UploadSession(uploadId, userId, filename, totalSize, chunkSize, file);
+
+        // 세션마다 최대 파일 크기만큼 디스크를 TTL 동안 차지할 수 있으므로 사용자별 세션 수 제한
+        // (동시에 시작해도 한도를 넘지 않도록 개수 확인과 등록을 함께 잠금)
+        synchronized (sessions) {
+            if (countSessions(userId) >= maxSessionsPerUser) {
+                throw new InvalidRequestException("진행 중인 업로드가 너무 많습니다 (최대 " + maxSessionsPerUser + "개)");
+            }
+            sessions.put(uploadId, session);
+        }
+
+        try {
+            Files.createFile(file);
+        } catch (IOException e) {
+            sessions.remove(uploadId);
+            throw new UncheckedIOException("업로드를 시작할 수 없습니다", e);
+        }
+        return toDto(session);
+    }
+
+    public UploadSessionDto getStatus(Long userId, String uploadId) {
+        return toDto(getOwnedSession(userId, uploadId));
+    }
+
+    // 청크를 임시 파일의 index * chunkSize 위치에 기록
+    public UploadSessionDto writeChunk(Long userId, String uploadId, int index, long contentLength, InputStream body) {
+        UploadSession session = getOwnedSession(userId, uploadId);
+        if (index < 0 || index >= session.getTotalChunks()) {
+            throw new InvalidRequestException("잘못된 청크 번호입니다: " + index);
+        }
+
+        long offset = session.offsetOf(index);
+        long expected = session.sizeOf(index);
+        if (contentLength >= 0 && contentLength != expected) {
+            throw new InvalidRequestException("청크 크기가 올바르지 않습니다 (필요한 크기: " + expected + ")");
+        }
+
+        session.beginWrite();
+        boolean success = false;
+        try (ReadableByteChannel source = Channels.newChannel(body);
+             FileChannel target = FileChannel.open(session.getFile(), StandardOpenOption.WRITE)) {
+            long written = 0;
+            while (written < expected) {
+                long transferred = target.transferFrom(source, offset + written, expected - written);
+                if (transferred <= 0) {
+                    break;
+                }
+                written += transferred;
+            }
+            if (written != expected || body.read() != -1) {
+                throw new InvalidRequestException("청크 크기가 올바르지 않습니다 (필요한 크기: " + expected + ")");
+            }
+            success = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("청크 업로드에 실패했습니다", e);
+        } finally {
+            session.endWrite(index, success);
+        }
+
+        return toDto(session);
+    }
+
+    // 모든 청크가 도착하면 임시 파일을 이미지 저장소로 이동
+    public UploadSessionDto commit(Long userId, String uploadId) {
+        UploadSession session = getOwnedSession(userId, uploadId);
+        session.beginCommit();
+        try {
+            StoredImage stored = imageStorageService.store(session.getFile(), session.getFilename());
+            session.completeCommit(stored.getUrl());
+        } catch (RuntimeException e) {
+            session.abortCommit();
+            throw e;
+        }
+        return toDto(session);
+    }
+
+    // 게시글에 연결할 완료된 업로드의 이미지 URL (요청 순서 유지)
+    public List<String> getCommittedUrls(Long userId, List<String> uploadIds) {
+        List<String> urls = new ArrayList<>();
+        if (uploadIds == null) {
+            return urls;
+        }
+        for (String uploadId : uploadIds) {
+            UploadSession session = getOwnedSession(userId, uploadId);
+            if (!session.isCommitted()) {
+                throw new InvalidRequestException("완료되지 않은 업로드입니다: " + uploadId);
+            }
+            urls.add(session.getUrl());
+        }
+        return urls;
+    }
+
+    // 게시글에 연결된 업로드 세션 정리
+    public void release(List<String> uploadIds) {
+        if (uploadIds != null) {
+            uploadIds.forEach(sessions::remove);
+        }
+    }
+
+    // 오래 사용하지 않은 세션과 임시 파일 정리
+    @Scheduled(fixedDelayString = "${storage.chunked.cleanup-interval-ms:600000}")
+    public void cleanupExpired() {
+        long expiredBefore = System.currentTimeMillis() - sessionTtlMillis;
+        sessions.values().removeIf(session -> {
+            if (session.getLastAccessedAt() >= expiredBefore) {
+                return false;
+            }
+            deleteQuietly(session.getFile());
+            return true;
+        });
+    }
+
+    private UploadSession getOwnedSession(Long userId, String uploadId) {
+        UploadSession session = uploadId == null ? null : sessions.get(uploadId);
+        if (session == null) {
+            throw new ResourceNotFoundException("업로드를 찾을 수 없습니다: " + uploadId);
+        }
+        if (!session.getUserId().equals(userId)) {
+            throw new ForbiddenException("해당 업로드에 대한 권한이 없습니다");
+        }
+        session.touch();
+        return session;
+    }
+
+    // 완료 후 게시글에 아직 연결하지 않은 세션도 포함
+    private long countSessions(Long userId) {
+        return sessions.values().stream()
+                .filter(session -> session.getUserId().equals(userId))
+                .count();
+    }
+
+    private UploadSessionDto toDto(UploadSession session) {
+        return UploadSessionDto.builder()
+                .uploadId(session.getUploadId())
+                .totalSize(session.getTotalSize())
+                .chunkSize(session.getChunkSize())
+                .totalChunks(session.getTotalChunks())
+                .missingChunks(session.getMissingChunks())
+                .committed(session.isCommitted())
+                .url(session.getUrl())
+                .build();
+    }
+
+    // 세션은 메모리에만 있으므로 재시작 전의 임시 파일은 이어받을 수 없음
+    private void deleteLeftovers() throws IOException {
+        try (Stream<Path> files = Files.list(sessionDir)) {
+            files.forEach(this::deleteQuietly);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일 삭제 실패: {}", path);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+// ImageStorageService.java (인터페이스)
+package kakao.community_backend.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public interface ImageStorageService {
+    StoredImage store(MultipartFile file);
+    StoredImage store(Path source, String originalFilename);
+    void validateFilename(String originalFilename);
+    List<StoredImage> storeAll(List<MultipartFile> files);
+    Path resolve(String filename);
+    void delete(String filename);
+}
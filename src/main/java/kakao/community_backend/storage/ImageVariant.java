@@ -0,0 +1,15 @@
+package kakao.community_backend.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 원본 이미지에서 생성하는 고정 크기 변형 (최대 너비 기준으로 비율 유지 축소)
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMBNAIL("thumb", 160),
+    FEED("feed", 720);
+
+    private final String suffix;
+    private final int maxWidth;
+}
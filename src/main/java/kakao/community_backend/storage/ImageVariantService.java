@@ -0,0 +1,322 @@
+// ImageVariantService.java
+package kakao.community_backend.storage;
+
+import jakarta.annotation.PreDestroy;
+import kakao.community_backend.event.ImageStoredEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// 이미지 변형(썸네일, 피드용) 생성 및 관리
+// 업로드 직후 고정 크기 작업 스레드에서 생성하고, 전체 용량 기준 LRU로 디스크 사용량을 제한
+// 변형이 아직 없으면 원본 URL을 그대로 돌려주고 백그라운드에서 생성을 요청
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final Map<String, String> FORMATS = Map.of(
+            "jpg", "jpeg",
+            "jpeg", "jpeg",
+            "png", "png");
+    private static final Pattern VARIANT_FILENAME_PATTERN =
+            Pattern.compile("^[0-9a-f]{64}-[a-z]+\\.(jpg|jpeg|png)$");
+    private static final String URL_PREFIX = "/uploads/";
+    private static final String VARIANT_URL_PREFIX = "/uploads/variants/";
+
+    private final ImageStorageService imageStorageService;
+    private final Path variantDir;
+    private final Path tempDir;
+    private final long maxBytes;
+    private final ThreadPoolExecutor executor;
+
+    // 변형 파일명 -> 파일 크기 (접근 순서)
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    // 생성 중이거나 대기 중인 변형 (중복 요청 방지)
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantService(ImageStorageService imageStorageService,
+                               @Value("${storage.upload-dir:./uploads}") String uploadDir,
+                               @Value("${storage.variants.max-bytes:536870912}") long maxBytes,
+                               @Value("${storage.variants.threads:2}") int threads,
+                               @Value("${storage.variants.queue-capacity:256}") int queueCapacity) throws IOException {
+        this.imageStorageService = imageStorageService;
+        this.variantDir = Paths.get(uploadDir).toAbsolutePath().normalize().resolve("variants");
+        this.tempDir = variantDir.resolve(".tmp");
+        this.maxBytes = maxBytes;
+        Files.createDirectories(tempDir);
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-variant-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        loadIndex();
+    }
+
+    // 원본 URL에 대한 변형 URL (변형이 아직 없거나 만들 수 없는 이미지면 원본 URL)
+    public String variantUrl(String originalUrl, ImageVariant variant) {
+        String filename = sourceFilename(originalUrl);
+        if (filename == null) {
+            return originalUrl;
+        }
+
+        String variantFilename = variantFilename(filename, variant);
+        if (contains(variantFilename)) {
+            return VARIANT_URL_PREFIX + variantFilename;
+        }
+
+        schedule(filename, variant, variantFilename);
+        return originalUrl;
+    }
+
+    // variantUrl이 변형 URL을 돌려줄 상태인지 확인 (생성 요청은 하지 않음)
+    public boolean isReady(String originalUrl, ImageVariant variant) {
+        String filename = sourceFilename(originalUrl);
+        return filename != null && contains(variantFilename(filename, variant));
+    }
+
+    // 변형 파일명으로 저장 경로 조회 (없으면 null)
+    public Path resolve(String variantFilename) {
+        if (variantFilename == null || !contains(variantFilename)) {
+            return null;
+        }
+        Path path = variantDir.resolve(variantFilename);
+        if (!Files.isRegularFile(path)) {
+            forget(variantFilename);
+            return null;
+        }
+        return path;
+    }
+
+    // 업로드 직후 모든 변형 생성을 요청
+    @EventListener
+    public void onImageStored(ImageStoredEvent event) {
+        if (!isSupported(event.getFilename())) {
+            return;
+        }
+        for (ImageVariant variant : ImageVariant.values()) {
+            String variantFilename = variantFilename(event.getFilename(), variant);
+            if (!contains(variantFilename)) {
+                schedule(event.getFilename(), variant, variantFilename);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void schedule(String filename, ImageVariant variant, String variantFilename) {
+        if (!pending.add(variantFilename)) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(filename, variant, variantFilename));
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 차면 이번에는 원본을 사용하고 다음 요청 때 다시 시도
+            pending.remove(variantFilename);
+        }
+    }
+
+    private void generate(String filename, ImageVariant variant, String variantFilename) {
+        Path temp = null;
+        try {
+            Path source = imageStorageService.resolve(filename);
+            if (source == null || !Files.isRegularFile(source)) {
+                return;
+            }
+
+            BufferedImage image = read(source, variant.getMaxWidth());
+            if (image == null) {
+                return;
+            }
+            String format = FORMATS.get(extensionOf(filename));
+            BufferedImage resized = resize(image, variant.getMaxWidth(), "png".equals(format));
+
+            temp = Files.createTempFile(tempDir, "variant-", ".tmp");
+            if (!ImageIO.write(resized, format, temp.toFile())) {
+                return;
+            }
+            Path target = variantDir.resolve(variantFilename);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            temp = null;
+
+            register(variantFilename, Files.size(target));
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 변형 생성 실패: {} ({})", variantFilename, e.getMessage());
+        } finally {
+            pending.remove(variantFilename);
+            deleteQuietly(temp);
+        }
+    }
+
+    // 목표 너비의 두 배 이상인 이미지는 디코딩 단계에서 행/열을 건너뛰어 메모리와 시간을 줄임
+    private BufferedImage read(Path source, int maxWidth) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, reader.getWidth(0) / (maxWidth * 2));
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage image, int maxWidth, boolean keepAlpha) {
+        int width = Math.min(maxWidth, image.getWidth());
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+
+        BufferedImage resized = new BufferedImage(width, height,
+                keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    // 시작 시 기존 변형 파일을 수정 시각 순으로 다시 등록
+    private void loadIndex() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(variantDir)) {
+            files = stream
+                    .filter(Files::isRegularFile)
+                    .filter(path -> VARIANT_FILENAME_PATTERN.matcher(path.getFileName().toString()).matches())
+                    .sorted(Comparator.comparing(this::lastModified))
+                    .toList();
+        }
+        for (Path file : files) {
+            register(file.getFileName().toString(), Files.size(file));
+        }
+        log.info("이미지 변형 {}건 로드 ({} bytes)", files.size(), totalBytes);
+    }
+
+    private void register(String variantFilename, long size) {
+        List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            Long previous = index.put(variantFilename, size);
+            totalBytes += size - (previous == null ? 0 : previous);
+
+            // 용량을 넘으면 가장 오래 사용하지 않은 변형부터 제거
+            Iterator<Map.Entry<String, Long>> iterator = index.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                if (eldest.getKey().equals(variantFilename)) {
+                    continue;
+                }
+                totalBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+
+        // 파일 삭제는 락 밖에서 수행
+        for (String name : evicted) {
+            deleteQuietly(variantDir.resolve(name));
+        }
+    }
+
+    // 조회 시 접근 순서도 갱신됨
+    private synchronized boolean contains(String variantFilename) {
+        return index.get(variantFilename) != null;
+    }
+
+    private synchronized void forget(String variantFilename) {
+        Long size = index.remove(variantFilename);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    // 로컬 저장소에 저장된 변형 가능한 원본이면 파일명, 아니면 null
+    private String sourceFilename(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        String filename = url.substring(URL_PREFIX.length());
+        if (imageStorageService.resolve(filename) == null || !isSupported(filename)) {
+            return null;
+        }
+        return filename;
+    }
+
+    private boolean isSupported(String filename) {
+        return FORMATS.containsKey(extensionOf(filename));
+    }
+
+    private String variantFilename(String filename, ImageVariant variant) {
+        int dot = filename.lastIndexOf('.');
+        return filename.substring(0, dot) + "-" + variant.getSuffix() + filename.substring(dot);
+    }
+
+    private String extensionOf(String filename) {
+        return filename.substring(filename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 삭제 실패는 무시 (다음 시작 시 다시 등록됨)
+        }
+    }
+}
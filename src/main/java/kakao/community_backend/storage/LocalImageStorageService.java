@@ -0,0 +1,220 @@
+// LocalImageStorageService.java
+package kakao.community_backend.storage;
+
+import kakao.community_backend.event.ImageStoredEvent;
+import kakao.community_backend.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// 로컬 디스크 이미지 저장소
+// 업로드 파일을 힙에 올리지 않고 채널로 스트리밍하면서 SHA-256 해시를 계산하고,
+// 해시를 파일명으로 사용해 같은 내용의 파일은 한 번만 저장
+@Service
+public class LocalImageStorageService implements ImageStorageService {
+
+    private static final Set<String> ALLOWED_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "webp");
+    private static final Pattern FILENAME_PATTERN = Pattern.compile("^[0-9a-f]{64}\\.[a-z]{3,4}$");
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+    private static final String URL_PREFIX = "/uploads/";
+
+    private final Path rootDir;
+    private final Path tempDir;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LocalImageStorageService(@Value("${storage.upload-dir:./uploads}") String uploadDir,
+                                    ApplicationEventPublisher eventPublisher) throws IOException {
+        this.eventPublisher = eventPublisher;
+        this.rootDir = Paths.get(uploadDir).toAbsolutePath().normalize();
+        // 원자적 이동을 위해 임시 디렉터리는 같은 파일시스템에 둠
+        this.tempDir = rootDir.resolve(".tmp");
+        Files.createDirectories(tempDir);
+    }
+
+    @Override
+    public StoredImage store(MultipartFile file) {
+        String extension = extractExtension(file.getOriginalFilename());
+
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(tempDir, "upload-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                size = transfer(source, target);
+            }
+
+            StoredImage stored = place(temp, HexFormat.of().formatHex(digest.digest()), extension, size);
+            temp = null;
+            return stored;
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 업로드에 실패했습니다", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    // 이미 디스크에 있는 파일(분할 업로드 결과)을 해시만 계산해 그대로 이동 (내용 복사 없음)
+    @Override
+    public StoredImage store(Path source, String originalFilename) {
+        String extension = extractExtension(originalFilename);
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            long size;
+            try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(DIGEST_BUFFER_SIZE);
+                while (channel.read(buffer) != -1) {
+                    buffer.flip();
+                    digest.update(buffer);
+                    buffer.clear();
+                }
+                size = channel.size();
+            }
+
+            return place(source, HexFormat.of().formatHex(digest.digest()), extension, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 업로드에 실패했습니다", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void validateFilename(String originalFilename) {
+        extractExtension(originalFilename);
+    }
+
+    @Override
+    public List<StoredImage> storeAll(List<MultipartFile> files) {
+        List<StoredImage> stored = new ArrayList<>();
+        if (files == null) {
+            return stored;
+        }
+        // 형식이 맞지 않는 파일이 섞여 있으면 아무것도 저장하지 않음 (앞의 파일만 남지 않도록)
+        for (MultipartFile file : files) {
+            if (file != null && !file.isEmpty()) {
+                validateFilename(file.getOriginalFilename());
+            }
+        }
+        for (MultipartFile file : files) {
+            if (file != null && !file.isEmpty()) {
+                stored.add(store(file));
+            }
+        }
+        return stored;
+    }
+
+    // 파일명으로 저장 경로 조회 (형식이 맞지 않으면 null)
+    @Override
+    public Path resolve(String filename) {
+        if (filename == null || !FILENAME_PATTERN.matcher(filename).matches()) {
+            return null;
+        }
+        return pathOf(filename);
+    }
+
+    @Override
+    public void delete(String filename) {
+        Path path = resolve(filename);
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 삭제에 실패했습니다: " + filename, e);
+        }
+    }
+
+    // 해시 앞 두 글자로 하위 디렉터리를 나눠 한 디렉터리에 파일이 몰리지 않게 함
+    private Path pathOf(String filename) {
+        return rootDir.resolve(filename.substring(0, 2)).resolve(filename);
+    }
+
+    private StoredImage place(Path source, String hash, String extension, long size) throws IOException {
+        String filename = hash + "." + extension;
+        boolean created = moveIntoPlace(source, pathOf(filename));
+
+        // 썸네일 등 변형 생성은 요청 스레드 밖에서 진행
+        eventPublisher.publishEvent(new ImageStoredEvent(filename));
+        return new StoredImage(hash, filename, URL_PREFIX + filename, size, created);
+    }
+
+    private long transfer(ReadableByteChannel source, FileChannel target) throws IOException {
+        long position = 0;
+        long transferred;
+        while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+            position += transferred;
+        }
+        return position;
+    }
+
+    // 파일을 새로 놓았으면 true, 같은 내용의 파일이 이미 있었으면 false
+    private boolean moveIntoPlace(Path temp, Path target) throws IOException {
+        if (Files.exists(target)) {
+            // 같은 내용의 파일이 이미 있으면 임시 파일만 삭제
+            Files.delete(temp);
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            Files.delete(temp);
+            return false;
+        }
+    }
+
+    private String extractExtension(String originalFilename) {
+        int dot = originalFilename == null ? -1 : originalFilename.lastIndexOf('.');
+        String extension = dot < 0 ? "" : originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        if (!ALLOWED_EXTENSIONS.contains(extension)) {
+            throw new InvalidRequestException("지원하지 않는 이미지 형식입니다: " + originalFilename);
+        }
+        return extension;
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 삭제 실패는 무시
+        }
+    }
+}
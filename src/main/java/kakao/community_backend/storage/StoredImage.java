@@ -0,0 +1,16 @@
+package kakao.community_backend.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 저장된 이미지 정보 (파일명은 내용 해시 + 확장자)
+// created: 이번 저장으로 파일이 새로 생겼는지 (false면 같은 내용의 기존 파일을 재사용)
+@Getter
+@AllArgsConstructor
+public class StoredImage {
+    private final String hash;
+    private final String filename;
+    private final String url;
+    private final long size;
+    private final boolean created;
+}
@@ -0,0 +1,71 @@
+package kakao.community_backend.storage;
+
+import kakao.community_backend.repository.PostImageRepository;
+import kakao.community_backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시글/프로필 저장에 실패한 요청이 새로 만든 이미지 파일 정리
+// 같은 내용을 올린 다른 요청이 해시 중복 제거로 같은 파일을 쓰고 아직 커밋하지 않았을 수 있으므로
+// 바로 지우지 않고 대기 시간이 지난 뒤 게시글 이미지나 프로필 이미지 어디에서도 참조하지 않을 때만 삭제
+@Slf4j
+@Component
+public class UnusedImageCleaner {
+
+    private final ImageStorageService imageStorageService;
+    private final PostImageRepository postImageRepository;
+    private final UserRepository userRepository;
+    private final long delayMillis;
+
+    // 파일명 -> 삭제 후보 (재시작하면 사라지므로 그 사이 실패한 요청의 파일은 남을 수 있음)
+    private final Map<String, Candidate> candidates = new ConcurrentHashMap<>();
+
+    public UnusedImageCleaner(ImageStorageService imageStorageService,
+                              PostImageRepository postImageRepository,
+                              UserRepository userRepository,
+                              @Value("${storage.unused-images.delay-ms:300000}") long delayMillis) {
+        this.imageStorageService = imageStorageService;
+        this.postImageRepository = postImageRepository;
+        this.userRepository = userRepository;
+        this.delayMillis = delayMillis;
+    }
+
+    // 이번 요청이 새로 만든 파일만 삭제 후보로 등록 (기존 파일을 재사용한 경우는 다른 곳에서 쓰는 파일)
+    public void discard(List<StoredImage> images) {
+        long dueAt = System.currentTimeMillis() + delayMillis;
+        for (StoredImage image : images) {
+            if (image.isCreated()) {
+                candidates.put(image.getFilename(), new Candidate(image.getUrl(), dueAt));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${storage.unused-images.cleanup-interval-ms:60000}")
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+        candidates.forEach((filename, candidate) -> {
+            if (candidate.dueAt() > now || !candidates.remove(filename, candidate)) {
+                return;
+            }
+            if (postImageRepository.existsByImageUrl(candidate.url())
+                    || userRepository.existsByProfileImageUrl(candidate.url())) {
+                return;
+            }
+            try {
+                imageStorageService.delete(filename);
+            } catch (UncheckedIOException e) {
+                log.warn("사용되지 않는 이미지를 삭제하지 못했습니다: {}", filename, e);
+            }
+        });
+    }
+
+    private record Candidate(String url, long dueAt) {
+    }
+}
@@ -0,0 +1,105 @@
+// UploadSession.java
+package kakao.community_backend.storage;
+
+import kakao.community_backend.exception.InvalidRequestException;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+// 분할 업로드 세션 상태 (청크 수신 여부, 진행 중인 쓰기, 완료 후 이미지 URL)
+@Getter
+public class UploadSession {
+
+    private final String uploadId;
+    private final Long userId;
+    private final String filename;
+    private final long totalSize;
+    private final int chunkSize;
+    private final int totalChunks;
+    private final Path file;
+
+    private final BitSet received = new BitSet();
+    private int activeWrites;
+    private boolean committing;
+    private String url;
+    private volatile long lastAccessedAt = System.currentTimeMillis();
+
+    public UploadSession(String uploadId, Long userId, String filename, long totalSize, int chunkSize, Path file) {
+        this.uploadId = uploadId;
+        this.userId = userId;
+        this.filename = filename;
+        this.totalSize = totalSize;
+        this.chunkSize = chunkSize;
+        this.totalChunks = (int) ((totalSize + chunkSize - 1) / chunkSize);
+        this.file = file;
+    }
+
+    // 청크의 시작 위치와 크기 (마지막 청크만 chunkSize보다 작을 수 있음)
+    public long offsetOf(int index) {
+        return (long) index * chunkSize;
+    }
+
+    public long sizeOf(int index) {
+        return Math.min(chunkSize, totalSize - offsetOf(index));
+    }
+
+    public void touch() {
+        lastAccessedAt = System.currentTimeMillis();
+    }
+
+    public synchronized void beginWrite() {
+        if (committing || url != null) {
+            throw new InvalidRequestException("이미 완료된 업로드입니다");
+        }
+        activeWrites++;
+    }
+
+    public synchronized void endWrite(int index, boolean success) {
+        activeWrites--;
+        if (success) {
+            received.set(index);
+        }
+    }
+
+    // 모든 청크가 도착했고 진행 중인 쓰기가 없을 때만 완료 처리 시작
+    public synchronized void beginCommit() {
+        if (url != null || committing) {
+            throw new InvalidRequestException("이미 완료된 업로드입니다");
+        }
+        if (received.cardinality() != totalChunks) {
+            throw new InvalidRequestException("아직 받지 못한 청크가 있습니다");
+        }
+        if (activeWrites > 0) {
+            throw new InvalidRequestException("업로드 중인 청크가 있습니다");
+        }
+        committing = true;
+    }
+
+    public synchronized void completeCommit(String url) {
+        this.url = url;
+        this.committing = false;
+    }
+
+    public synchronized void abortCommit() {
+        committing = false;
+    }
+
+    public synchronized boolean isCommitted() {
+        return url != null;
+    }
+
+    public synchronized String getUrl() {
+        return url;
+    }
+
+    public synchronized List<Integer> getMissingChunks() {
+        List<Integer> missing = new ArrayList<>();
+        for (int i = received.nextClearBit(0); i < totalChunks; i = received.nextClearBit(i + 1)) {
+            missing.add(i);
+        }
+        return missing;
+    }
+}
@@ -0,0 +1,57 @@
+// CursorUtil.java
+package kakao.community_backend.util;
+
+import kakao.community_backend.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+
+// 커서 기반 페이지네이션용 커서 인코딩/디코딩 유틸리티
+public final class CursorUtil {
+
+    private static final String DELIMITER = "|";
+    private static final String INVALID_CURSOR_MESSAGE = "유효하지 않은 커서입니다";
+
+    private CursorUtil() {
+    }
+
+    // 커서 종류와 구성 요소를 불투명한 문자열로 인코딩
+    public static String encode(String type, String... parts) {
+        String raw = type + DELIMITER + String.join(DELIMITER, parts);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서를 디코딩하여 구성 요소 반환 (커서 종류나 구성 요소 수가 다르면 InvalidCursorException)
+    public static String[] decode(String cursor, String type, int partCount) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length == partCount + 1 && parts[0].equals(type)) {
+                return Arrays.copyOfRange(parts, 1, parts.length);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE, e);
+        }
+        throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+    }
+
+    public static LocalDateTime toDateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE, e);
+        }
+    }
+
+    public static long toLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE, e);
+        }
+    }
+}
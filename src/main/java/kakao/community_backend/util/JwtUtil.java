@@ -2,16 +2,21 @@
 package kakao.community_backend.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 @Component
@@ -26,6 +31,59 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration:604800000}")
     private long REFRESH_TOKEN_VALIDITY;
 
+    @Value("${jwt.verified-cache-size:10000}")
+    private int VERIFIED_CACHE_SIZE;
+
+    // 서명 키와 파서는 한 번만 생성 (둘 다 불변이라 스레드 간 공유 가능)
+    private Key signingKey;
+    private JwtParser parser;
+
+    // 최근 검증된 토큰 캐시 (토큰 -> 사용자 ID, 만료 시각)
+    private final ConcurrentHashMap<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    // 토큰을 한 번만 검증하고 사용자 ID 반환 (유효하지 않으면 null)
+    public Long verifyAndExtractUserId(String token) {
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                return cached.userId();
+            }
+            verifiedTokens.remove(token);
+            return null;
+        }
+
+        Claims claims;
+        try {
+            // 서명과 만료 시간을 함께 검증
+            claims = extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        Long userId;
+        try {
+            userId = Long.parseLong(claims.getSubject());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            cacheVerifiedToken(token, new VerifiedToken(userId, expiration.getTime()), now);
+        }
+        return userId;
+    }
+
     // 토큰에서 사용자 ID 추출
     public Long extractUserId(String token) {
         return Long.parseLong(extractClaim(token, Claims::getSubject));
@@ -44,19 +102,10 @@ public class JwtUtil {
 
     // 모든 클레임 추출
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody();
     }
 
-    // 토큰 만료 여부 확인
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = extractExpiration(token);
-        return expiration.before(new Date());
-    }
-
     // 액세스 토큰 생성
     public String generateToken(Long userId) {
         Map<String, Object> claims = new HashMap<>();
@@ -76,21 +125,26 @@ public class JwtUtil {
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     // 토큰 검증
     public Boolean validateToken(String token) {
-        try {
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
+        return verifyAndExtractUserId(token) != null;
+    }
+
+    // 캐시가 가득 차면 만료된 항목부터 정리하고, 그래도 가득 차 있으면 비움
+    private void cacheVerifiedToken(String token, VerifiedToken verified, long now) {
+        if (verifiedTokens.size() >= VERIFIED_CACHE_SIZE) {
+            verifiedTokens.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (verifiedTokens.size() >= VERIFIED_CACHE_SIZE) {
+                verifiedTokens.clear();
+            }
         }
+        verifiedTokens.put(token, verified);
     }
 
-    // 서명 키 생성
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    private record VerifiedToken(Long userId, long expiresAt) {
     }
 }
\ No newline at end of file
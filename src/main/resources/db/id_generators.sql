@@ -0,0 +1,19 @@
+-- 게시글/댓글/게시글 이미지 ID 할당 테이블 (IdBlockAllocator가 next_val부터 50개씩 할당)
+-- 기존 ID와 겹치지 않도록 현재 최대 ID보다 큰 값에서 시작
+CREATE TABLE IF NOT EXISTS Id_Generators (
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO Id_Generators (sequence_name, next_val)
+SELECT 'Posts', COALESCE(MAX(post_id), 0) + 100 FROM Posts
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO Id_Generators (sequence_name, next_val)
+SELECT 'Comments', COALESCE(MAX(comment_id), 0) + 100 FROM Comments
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO Id_Generators (sequence_name, next_val)
+SELECT 'Post_Images', COALESCE(MAX(image_id), 0) + 100 FROM Post_Images
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
@@ -0,0 +1,12 @@
+-- 게시글 이미지 테이블 (게시글당 여러 장, 파일은 내용 해시 이름으로 uploads 디렉터리에 저장)
+CREATE TABLE IF NOT EXISTS Post_Images (
+    image_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT       NOT NULL,
+    image_url  VARCHAR(255) NOT NULL,
+    sort_order INT          NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    is_deleted BIT(1)       NOT NULL,
+    PRIMARY KEY (image_id),
+    KEY idx_post_images_post (post_id, is_deleted, sort_order),
+    CONSTRAINT fk_post_images_post FOREIGN KEY (post_id) REFERENCES Posts (post_id)
+);
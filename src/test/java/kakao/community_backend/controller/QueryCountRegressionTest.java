@@ -0,0 +1,167 @@
+package kakao.community_backend.controller;
+
+import kakao.community_backend.cache.FeedCache;
+import kakao.community_backend.entity.Post;
+import kakao.community_backend.entity.User;
+import kakao.community_backend.support.QueryCountConfig;
+import kakao.community_backend.support.QueryCounter;
+import kakao.community_backend.support.QueryLog;
+import kakao.community_backend.support.TestFixtures;
+import kakao.community_backend.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 주요 조회/좋아요 API의 SQL 수가 늘어나거나 데이터 양에 비례해 늘어나면(N+1) 실패
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import({QueryCountConfig.class, TestFixtures.class})
+class QueryCountRegressionTest {
+
+    private static final int COMMENTER_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private FeedCache feedCache;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private List<User> users;
+
+    // 댓글 1개, 이미지 1장이 있는 게시글 (댓글 작성자는 모두 프로필 이미지가 있음)
+    private Post smallPost;
+    // 서로 다른 작성자의 댓글 5개, 이미지 3장이 있는 게시글
+    private Post largePost;
+
+    @BeforeEach
+    void setUp() {
+        users = fixtures.users("qc", COMMENTER_COUNT + 1);
+        User author = users.get(0);
+
+        smallPost = fixtures.post(author, "쿼리 수 테스트 0");
+        largePost = fixtures.post(author, "쿼리 수 테스트 1");
+        // 목록 테스트용 (한 페이지 6개)
+        for (int i = 2; i < 6; i++) {
+            fixtures.post(author, "쿼리 수 테스트 " + i);
+        }
+
+        for (int i = 1; i <= COMMENTER_COUNT; i++) {
+            users.set(i, fixtures.profileImage(users.get(i)));
+        }
+
+        fixtures.comment(smallPost, users.get(1), "댓글");
+        for (int i = 1; i <= COMMENTER_COUNT; i++) {
+            fixtures.comment(largePost, users.get(i), "댓글");
+        }
+        fixtures.image(smallPost, 0);
+        for (int i = 0; i < 3; i++) {
+            fixtures.image(largePost, i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+        feedCache.invalidateAll();
+    }
+
+    @Test
+    void feedQueriesDoNotGrowWithPageSize() throws Exception {
+        feedCache.invalidateAll();
+        QueryLog small = QueryCounter.record(() -> mockMvc.perform(get("/posts?page=1&size=2"))
+                .andExpect(status().isOk()));
+
+        feedCache.invalidateAll();
+        QueryLog large = QueryCounter.record(() -> mockMvc.perform(get("/posts?page=1&size=6"))
+                .andExpect(status().isOk()));
+
+        // 목록 + 전체 개수 + 댓글 수 집계
+        large.assertAtMost(3).assertSameCountAs(small);
+    }
+
+    @Test
+    void cachedFeedPageIssuesNoQueries() throws Exception {
+        feedCache.invalidateAll();
+        mockMvc.perform(get("/posts?page=1&size=6")).andExpect(status().isOk());
+
+        QueryCounter.record(() -> mockMvc.perform(get("/posts?page=1&size=6"))
+                .andExpect(status().isOk())).assertCount(0);
+    }
+
+    @Test
+    void postDetailQueriesDoNotGrowWithCommentsOrImages() throws Exception {
+        QueryLog small = QueryCounter.record(() -> mockMvc.perform(get("/posts/" + smallPost.getPostId()))
+                .andExpect(status().isOk()));
+        QueryLog large = QueryCounter.record(() -> mockMvc.perform(get("/posts/" + largePost.getPostId()))
+                .andExpect(status().isOk()));
+
+        // 버전(ETag) + 이미지 URL(변형 생성 여부) + 게시글 + 작성자 + 댓글 수 + 이미지
+        large.assertAtMost(6).assertSameCountAs(small);
+    }
+
+    @Test
+    void commentPageQueriesDoNotGrowWithCommentAuthors() throws Exception {
+        QueryLog small = QueryCounter.record(() -> mockMvc.perform(
+                get("/posts/" + smallPost.getPostId() + "/comments")).andExpect(status().isOk()));
+        QueryLog large = QueryCounter.record(() -> mockMvc.perform(
+                get("/posts/" + largePost.getPostId() + "/comments")).andExpect(status().isOk()));
+
+        // 버전(ETag) + 프로필 이미지 URL(썸네일 생성 여부) + 댓글과 작성자 (+ 한 페이지를 넘으면 전체 개수)
+        large.assertAtMost(4).assertSameCountAs(small);
+    }
+
+    @Test
+    void commentCursorQueriesDoNotGrowWithCommentAuthors() throws Exception {
+        QueryLog small = QueryCounter.record(() -> mockMvc.perform(
+                get("/posts/" + smallPost.getPostId() + "/comments?cursor=")).andExpect(status().isOk()));
+        QueryLog large = QueryCounter.record(() -> mockMvc.perform(
+                get("/posts/" + largePost.getPostId() + "/comments?cursor=")).andExpect(status().isOk()));
+
+        // 버전(ETag) + 프로필 이미지 URL(썸네일 생성 여부) + 댓글과 작성자
+        large.assertCount(3).assertSameCountAs(small);
+    }
+
+    @Test
+    void likeToggleUsesFixedNumberOfQueries() throws Exception {
+        User user = users.get(1);
+        String authorization = "Bearer " + jwtUtil.generateToken(user.getUserId());
+        String path = "/posts/" + largePost.getPostId() + "/like";
+
+        // 좋아요: 게시글 잠금 + 삭제 시도 + 삽입 + 좋아요 수 증가
+        QueryCounter.record(() -> mockMvc.perform(post(path).header("Authorization", authorization))
+                .andExpect(status().isOk())).assertCount(4);
+        // 취소: 게시글 잠금 + 삭제 + 좋아요 수 감소
+        QueryCounter.record(() -> mockMvc.perform(post(path).header("Authorization", authorization))
+                .andExpect(status().isOk())).assertCount(3);
+    }
+
+    @Test
+    void likeLookupsUseSingleQuery() throws Exception {
+        String authorization = "Bearer " + jwtUtil.generateToken(users.get(1).getUserId());
+        Long postId = largePost.getPostId();
+
+        QueryCounter.record(() -> mockMvc.perform(get("/api/likes/count?postId=" + postId)
+                .header("Authorization", authorization)).andExpect(status().isOk())).assertCount(1);
+        QueryCounter.record(() -> mockMvc.perform(get("/api/likes/check?postId=" + postId + "&userId=" + users.get(1).getUserId())
+                .header("Authorization", authorization)).andExpect(status().isOk())).assertCount(1);
+    }
+}
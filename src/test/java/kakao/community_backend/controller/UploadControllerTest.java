@@ -0,0 +1,87 @@
+package kakao.community_backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kakao.community_backend.entity.User;
+import kakao.community_backend.support.TestFixtures;
+import kakao.community_backend.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "storage.chunked.max-sessions-per-user=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class UploadControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void rejectsNewSessionsOncePerUserLimitIsReached() throws Exception {
+        String owner = authorization(fixtures.user("upl"));
+        String other = authorization(fixtures.user("upo"));
+
+        start(owner).andExpect(status().isCreated());
+        start(owner).andExpect(status().isCreated());
+        start(owner).andExpect(status().isBadRequest());
+
+        // 한도는 사용자별로 적용
+        start(other).andExpect(status().isCreated());
+    }
+
+    @Test
+    void unknownUploadIsNotFoundAndForeignUploadIsForbidden() throws Exception {
+        String owner = authorization(fixtures.user("upl"));
+        String other = authorization(fixtures.user("upo"));
+
+        String body = start(owner).andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode data = objectMapper.readTree(body).get("data");
+        String uploadId = data.get("uploadId").asText();
+
+        mockMvc.perform(get("/upload-sessions/" + uploadId).header("Authorization", owner))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/upload-sessions/" + uploadId).header("Authorization", other))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/upload-sessions/does-not-exist").header("Authorization", owner))
+                .andExpect(status().isNotFound());
+    }
+
+    private ResultActions start(String authorization) throws Exception {
+        return mockMvc.perform(post("/upload-sessions")
+                .header("Authorization", authorization)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"filename\":\"image.png\",\"totalSize\":1024}"));
+    }
+
+    private String authorization(User user) {
+        return "Bearer " + jwtUtil.generateToken(user.getUserId());
+    }
+}
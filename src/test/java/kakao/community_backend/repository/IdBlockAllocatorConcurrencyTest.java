@@ -0,0 +1,121 @@
+package kakao.community_backend.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import kakao.community_backend.entity.Post;
+import kakao.community_backend.entity.User;
+import kakao.community_backend.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 풀의 커넥션을 모두 쥔 트랜잭션들이 동시에 새 ID 블록을 필요로 해도 멈추지 않는지 확인
+// 블록 할당이 요청 풀에서 두 번째 커넥션을 받으면 connection-timeout(여기서는 3초) 뒤 실패함
+@SpringBootTest(properties = "spring.datasource.hikari.connection-timeout=3000")
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class IdBlockAllocatorConcurrencyTest {
+
+    private static final int BLOCK_SIZE = 50;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private final List<Long> createdPostIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllById(createdPostIds);
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void insertsHoldingEveryPooledConnectionCrossBlockBoundary() throws Exception {
+        User author = fixtures.user("idblk");
+
+        long lastIdOfBlock = exhaustCurrentBlock(author);
+
+        int inserts = dataSource.getMaximumPoolSize();
+        CyclicBarrier allHoldConnections = new CyclicBarrier(inserts);
+        ExecutorService executor = Executors.newFixedThreadPool(inserts);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < inserts; i++) {
+            futures.add(executor.submit(() -> transactionTemplate.execute(status -> {
+                // 트랜잭션 시작 시 받은 커넥션을 쥔 채 모두 함께 INSERT
+                awaitQuietly(allHoldConnections);
+                return postRepository.save(Post.builder()
+                        .title("동시 INSERT")
+                        .content("내용")
+                        .user(author)
+                        .viewCount(0)
+                        .likeCount(0)
+                        .isDeleted(false)
+                        .build()).getPostId();
+            })));
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (Future<Long> future : futures) {
+            ids.add(future.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        createdPostIds.addAll(ids);
+
+        assertThat(ids).doesNotHaveDuplicates().allMatch(id -> id > lastIdOfBlock);
+        assertThat(postRepository.findAllById(ids)).hasSize(inserts);
+    }
+
+    // 새 블록을 받는 INSERT를 찾은 뒤 그 블록을 모두 사용해, 다음 INSERT가 새 블록을 받아야 하는 상태로 만듦
+    private long exhaustCurrentBlock(User author) {
+        long before;
+        do {
+            before = nextVal("Posts");
+            fixtures.post(author, "ID 블록 소진");
+        } while (nextVal("Posts") == before);
+
+        long lastId = 0;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            lastId = fixtures.post(author, "ID 블록 소진").getPostId();
+        }
+        return lastId;
+    }
+
+    private long nextVal(String sequenceName) {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM Id_Generators WHERE sequence_name = ?",
+                Long.class, sequenceName);
+    }
+
+    private static void awaitQuietly(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
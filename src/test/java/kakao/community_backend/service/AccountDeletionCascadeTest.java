@@ -0,0 +1,101 @@
+package kakao.community_backend.service;
+
+import kakao.community_backend.entity.Post;
+import kakao.community_backend.entity.User;
+import kakao.community_backend.repository.CommentRepository;
+import kakao.community_backend.repository.LikeRepository;
+import kakao.community_backend.repository.PostRepository;
+import kakao.community_backend.repository.UserRepository;
+import kakao.community_backend.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 배치 크기(3)보다 많은 데이터를 가진 사용자가 탈퇴하면 백그라운드에서 모두 정리되는지 확인
+@SpringBootTest(properties = "account.deletion.batch-size=3")
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class AccountDeletionCascadeTest {
+
+    private static final int POST_COUNT = 7;
+    private static final int LIKED_POST_COUNT = 5;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User leaving;
+    private final List<Post> otherPosts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        leaving = fixtures.user("lv");
+        User other = fixtures.user("st");
+
+        for (int i = 0; i < POST_COUNT; i++) {
+            fixtures.post(leaving, "탈퇴 사용자 글 " + i);
+        }
+        for (int i = 0; i < LIKED_POST_COUNT; i++) {
+            Post post = fixtures.post(other, "다른 사용자 글 " + i);
+            otherPosts.add(post);
+            likeService.toggleLike(post.getPostId(), leaving.getUserId());
+            likeService.toggleLike(post.getPostId(), other.getUserId());
+            fixtures.comment(post, leaving, "탈퇴 사용자 댓글 " + i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void deletingAccountRemovesLikesAndSoftDeletesContentInBatches() throws Exception {
+        userService.deleteUser(leaving.getUserId());
+
+        // 백그라운드 처리 완료 대기
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (userRepository.findDeletedUserIdsWithRemainingContent().contains(leaving.getUserId())) {
+            assertThat(System.currentTimeMillis()).as("탈퇴 처리 시간 초과").isLessThan(deadline);
+            Thread.sleep(100);
+        }
+
+        assertThat(postRepository.findByUserUserIdAndIsDeletedFalse(leaving.getUserId())).isEmpty();
+        assertThat(commentRepository.findByUserUserIdAndIsDeletedFalse(leaving.getUserId())).isEmpty();
+        assertThat(likeRepository.findByUserUserId(leaving.getUserId())).isEmpty();
+
+        // 다른 사용자의 좋아요만 남고 좋아요 수도 그만큼으로 맞춰짐
+        for (Post post : otherPosts) {
+            Post stored = postRepository.findById(post.getPostId()).orElseThrow();
+            assertThat(stored.isDeleted()).isFalse();
+            assertThat(stored.getLikeCount()).isEqualTo(1);
+            assertThat(likeService.getLikeCount(post.getPostId())).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package kakao.community_backend.service;
+
+import kakao.community_backend.dto.LikeToggleResult;
+import kakao.community_backend.entity.Post;
+import kakao.community_backend.entity.User;
+import kakao.community_backend.repository.PostRepository;
+import kakao.community_backend.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class LikeServiceConcurrencyTest {
+
+    private static final int USER_COUNT = 8;
+    private static final int TOGGLES_PER_USER = 25;
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private List<User> users;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        users = fixtures.users("lk", USER_COUNT);
+        post = fixtures.post(users.get(0), "좋아요 동시성 테스트");
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void parallelTogglesKeepLikeCountInSyncWithLikeRows() throws Exception {
+        Long postId = post.getPostId();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<LikeToggleResult>> futures = new ArrayList<>();
+
+        for (User user : users) {
+            for (int i = 0; i < TOGGLES_PER_USER; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return likeService.toggleLike(postId, user.getUserId());
+                }));
+            }
+        }
+
+        start.countDown();
+        for (Future<LikeToggleResult> future : futures) {
+            LikeToggleResult result = future.get(60, TimeUnit.SECONDS);
+            assertThat(result.getLikeCount()).isBetween(0, USER_COUNT);
+        }
+        executor.shutdown();
+
+        // 사용자별 토글 횟수가 홀수이면 최종 상태는 좋아요
+        int expectedLikes = TOGGLES_PER_USER % 2 == 1 ? USER_COUNT : 0;
+        int storedLikeCount = postRepository.findById(postId).orElseThrow().getLikeCount();
+
+        assertThat(likeService.getLikeCount(postId)).isEqualTo(expectedLikes);
+        assertThat(storedLikeCount).isEqualTo(expectedLikes);
+    }
+}
@@ -0,0 +1,64 @@
+package kakao.community_backend.service;
+
+import kakao.community_backend.entity.Post;
+import kakao.community_backend.entity.User;
+import kakao.community_backend.repository.PostRepository;
+import kakao.community_backend.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주기 반영이 테스트 도중 끼어들지 않도록 주기를 늘려 두고 flush()를 직접 호출
+@SpringBootTest(properties = "post.view-count.flush-interval-ms=3600000")
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class ViewCountAggregatorTest {
+
+    private static final int POST_COUNT = 20;
+
+    @Autowired
+    private ViewCountAggregator viewCountAggregator;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void failedBatchLeavesNoRowUpdatedAndKeepsEveryDelta() {
+        User author = fixtures.user("vc");
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = fixtures.post(author, "조회수 " + i);
+            viewCountAggregator.increment(post.getPostId());
+            posts.add(post);
+        }
+        // 이 게시글의 UPDATE만 INT 범위를 넘어 실패
+        Post overflowing = fixtures.post(author, "조회수 최대");
+        overflowing.setViewCount(Integer.MAX_VALUE);
+        postRepository.save(overflowing);
+        viewCountAggregator.increment(overflowing.getPostId());
+
+        viewCountAggregator.flush();
+
+        for (Post post : posts) {
+            assertThat(postRepository.findById(post.getPostId()).orElseThrow().getViewCount()).isZero();
+            assertThat(viewCountAggregator.getPendingCount(post.getPostId())).isEqualTo(1);
+        }
+        assertThat(viewCountAggregator.getPendingCount(overflowing.getPostId())).isEqualTo(1);
+    }
+}
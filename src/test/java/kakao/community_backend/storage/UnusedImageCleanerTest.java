@@ -0,0 +1,73 @@
+package kakao.community_backend.storage;
+
+import kakao.community_backend.entity.Post;
+import kakao.community_backend.entity.PostImage;
+import kakao.community_backend.repository.PostImageRepository;
+import kakao.community_backend.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "storage.unused-images.delay-ms=0")
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class UnusedImageCleanerTest {
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private UnusedImageCleaner unusedImageCleaner;
+
+    @Autowired
+    private PostImageRepository postImageRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void deletesOnlyUnreferencedFilesThatTheFailedRequestCreated() {
+        StoredImage unused = store(randomContent());
+        StoredImage referenced = store(randomContent());
+        // 같은 내용을 다른 요청이 먼저 올려 둔 경우 (이번 요청은 기존 파일을 재사용)
+        byte[] content = randomContent();
+        store(content);
+        StoredImage reused = store(content);
+
+        Post post = fixtures.post(fixtures.user("img"), "이미지 참조");
+        PostImage image = fixtures.image(post, 0);
+        image.setImageUrl(referenced.getUrl());
+        postImageRepository.save(image);
+
+        unusedImageCleaner.discard(List.of(unused, referenced, reused));
+        unusedImageCleaner.cleanUp();
+
+        assertThat(reused.isCreated()).isFalse();
+        assertThat(imageStorageService.resolve(unused.getFilename())).doesNotExist();
+        assertThat(imageStorageService.resolve(referenced.getFilename())).exists();
+        assertThat(imageStorageService.resolve(reused.getFilename())).exists();
+    }
+
+    private StoredImage store(byte[] content) {
+        return imageStorageService.store(new MockMultipartFile("images", "image.png", "image/png", content));
+    }
+
+    private static byte[] randomContent() {
+        return UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,16 @@
+package kakao.community_backend.support;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+// 쿼리 수를 검증하는 테스트에서 @Import(QueryCountConfig.class)로 사용
+@TestConfiguration
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+}
@@ -0,0 +1,21 @@
+package kakao.community_backend.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+
+// Hibernate가 실행하는 모든 SQL을 가로채 현재 스레드에서 기록 중인 QueryCounter 구간에 추가
+// (JPQL, 파생 쿼리, 네이티브 쿼리, 지연 로딩 포함 / JdbcTemplate으로 직접 실행한 SQL은 제외)
+public class QueryCountInspector implements StatementInspector {
+
+    static final ThreadLocal<List<String>> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = CURRENT.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,37 @@
+package kakao.community_backend.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 블록 안에서 실행된 SQL을 기록
+// MockMvc 요청은 테스트 스레드에서 처리되므로 mockMvc.perform(...)을 그대로 감싸면 됨
+// (비동기 이벤트 처리 등 다른 스레드에서 실행된 SQL은 포함되지 않음)
+//
+//   QueryCounter.record(() -> mockMvc.perform(get("/posts"))).assertAtMost(3);
+public final class QueryCounter {
+
+    private QueryCounter() {
+    }
+
+    public static QueryLog record(Block block) throws Exception {
+        List<String> previous = QueryCountInspector.CURRENT.get();
+        List<String> statements = new ArrayList<>();
+        QueryCountInspector.CURRENT.set(statements);
+        try {
+            block.run();
+        } finally {
+            if (previous != null) {
+                previous.addAll(statements);
+                QueryCountInspector.CURRENT.set(previous);
+            } else {
+                QueryCountInspector.CURRENT.remove();
+            }
+        }
+        return new QueryLog(List.copyOf(statements));
+    }
+
+    @FunctionalInterface
+    public interface Block {
+        void run() throws Exception;
+    }
+}
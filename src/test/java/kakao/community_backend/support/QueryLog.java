@@ -0,0 +1,42 @@
+package kakao.community_backend.support;
+
+import java.util.List;
+
+// QueryCounter로 기록한 SQL 목록과 쿼리 수 검증 (실패 시 실행된 SQL을 모두 출력)
+public record QueryLog(List<String> statements) {
+
+    public int count() {
+        return statements.size();
+    }
+
+    public QueryLog assertCount(int expected) {
+        if (count() != expected) {
+            throw new AssertionError("SQL " + expected + "개를 예상했지만 " + count() + "개 실행됨" + describe());
+        }
+        return this;
+    }
+
+    public QueryLog assertAtMost(int max) {
+        if (count() > max) {
+            throw new AssertionError("SQL은 최대 " + max + "개여야 하지만 " + count() + "개 실행됨" + describe());
+        }
+        return this;
+    }
+
+    // 데이터 양이 다른 두 요청의 쿼리 수가 같은지 확인 (행마다 쿼리가 추가되는 N+1 검출)
+    public QueryLog assertSameCountAs(QueryLog other) {
+        if (count() != other.count()) {
+            throw new AssertionError("쿼리 수가 데이터 양에 따라 달라짐 (" + other.count() + " -> " + count() + ")"
+                    + other.describe() + "\n---" + describe());
+        }
+        return this;
+    }
+
+    private String describe() {
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            description.append("\n  ").append(i + 1).append(". ").append(statements.get(i));
+        }
+        return description.toString();
+    }
+}
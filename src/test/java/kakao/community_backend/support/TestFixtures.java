@@ -0,0 +1,122 @@
+package kakao.community_backend.support;
+
+import kakao.community_backend.entity.Comment;
+import kakao.community_backend.entity.Post;
+import kakao.community_backend.entity.PostImage;
+import kakao.community_backend.entity.User;
+import kakao.community_backend.repository.CommentRepository;
+import kakao.community_backend.repository.LikeRepository;
+import kakao.community_backend.repository.PostImageRepository;
+import kakao.community_backend.repository.PostRepository;
+import kakao.community_backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// 테스트 데이터 생성/정리 도우미 - @Import(TestFixtures.class)로 주입받아 사용
+// 이메일/닉네임에 무작위 접미사를 붙여 다른 테스트의 데이터와 겹치지 않게 하고,
+// 만든 데이터는 @AfterEach에서 cleanUp()으로 외래 키 순서에 맞춰 삭제
+@TestComponent
+public class TestFixtures {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostImageRepository postImageRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Post> posts = new ArrayList<>();
+    private final List<Comment> comments = new ArrayList<>();
+    private final List<PostImage> images = new ArrayList<>();
+
+    public User user(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(User.builder()
+                .email(prefix + "-" + suffix + "@test.com")
+                .password("password")
+                .nickname(prefix + suffix)
+                .isDeleted(false)
+                .build());
+        users.add(user);
+        return user;
+    }
+
+    public List<User> users(String prefix, int count) {
+        List<User> created = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            created.add(user(prefix));
+        }
+        return created;
+    }
+
+    public User profileImage(User user) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user.setProfileImageUrl("/uploads/profile-" + suffix + ".jpg");
+        return userRepository.save(user);
+    }
+
+    public Post post(User author, String title) {
+        Post post = postRepository.save(Post.builder()
+                .title(title)
+                .content("내용")
+                .user(author)
+                .viewCount(0)
+                .likeCount(0)
+                .isDeleted(false)
+                .build());
+        posts.add(post);
+        return post;
+    }
+
+    public Comment comment(Post post, User author, String content) {
+        Comment comment = commentRepository.save(Comment.builder()
+                .content(content)
+                .user(author)
+                .post(post)
+                .isDeleted(false)
+                .build());
+        comments.add(comment);
+        return comment;
+    }
+
+    public PostImage image(Post post, int sortOrder) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        PostImage image = postImageRepository.save(PostImage.builder()
+                .imageUrl("/uploads/fixture-" + suffix + "-" + sortOrder + ".jpg")
+                .sortOrder(sortOrder)
+                .post(post)
+                .isDeleted(false)
+                .build());
+        images.add(image);
+        return image;
+    }
+
+    // 좋아요 -> 댓글 -> 이미지 -> 게시글 -> 사용자 순으로 삭제
+    public void cleanUp() {
+        for (User user : users) {
+            likeRepository.deleteAll(likeRepository.findByUserUserId(user.getUserId()));
+        }
+        commentRepository.deleteAll(comments);
+        postImageRepository.deleteAll(images);
+        postRepository.deleteAll(posts);
+        userRepository.deleteAll(users);
+
+        comments.clear();
+        images.clear();
+        posts.clear();
+        users.clear();
+    }
+}
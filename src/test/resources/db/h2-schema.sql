@@ -0,0 +1,79 @@
+-- 테스트(test 프로필)와 부하 테스트(loadtest 프로필)가 함께 쓰는 H2(MySQL 호환 모드) 스키마
+-- 엔티티 매핑과 운영 MySQL 스키마에 맞춤 (ddl-auto=validate로 검증됨)
+-- TEXT 컬럼은 H2에서 CLOB이 되므로 VARCHAR로, BIT(1)은 BOOLEAN으로 선언
+CREATE TABLE Users (
+    user_id           BIGINT       NOT NULL AUTO_INCREMENT,
+    email             VARCHAR(100) NOT NULL,
+    password          VARCHAR(255) NOT NULL,
+    nickname          VARCHAR(50)  NOT NULL,
+    profile_image_url VARCHAR(255),
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    is_deleted        BOOLEAN      NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname)
+);
+
+CREATE TABLE Posts (
+    post_id           BIGINT        NOT NULL AUTO_INCREMENT,
+    title             VARCHAR(255)  NOT NULL,
+    content           VARCHAR(65535) NOT NULL,
+    content_image_url VARCHAR(255),
+    view_count        INT           NOT NULL,
+    like_count        INT           NOT NULL,
+    created_at        TIMESTAMP(6)  NOT NULL,
+    updated_at        TIMESTAMP(6),
+    is_deleted        BOOLEAN       NOT NULL,
+    user_id           BIGINT        NOT NULL,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES Users (user_id)
+);
+CREATE INDEX idx_posts_deleted_created ON Posts (is_deleted, created_at, post_id);
+CREATE INDEX idx_posts_updated ON Posts (updated_at);
+
+CREATE TABLE Comments (
+    comment_id BIGINT         NOT NULL AUTO_INCREMENT,
+    content    VARCHAR(65535) NOT NULL,
+    created_at TIMESTAMP(6)   NOT NULL,
+    updated_at TIMESTAMP(6),
+    is_deleted BOOLEAN        NOT NULL,
+    user_id    BIGINT         NOT NULL,
+    post_id    BIGINT         NOT NULL,
+    PRIMARY KEY (comment_id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES Users (user_id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES Posts (post_id)
+);
+CREATE INDEX idx_comments_post ON Comments (post_id, is_deleted, created_at, comment_id);
+
+CREATE TABLE Likes (
+    like_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at TIMESTAMP(6) NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    post_id    BIGINT       NOT NULL,
+    PRIMARY KEY (like_id),
+    CONSTRAINT uk_likes_user_post UNIQUE (user_id, post_id),
+    CONSTRAINT fk_likes_user FOREIGN KEY (user_id) REFERENCES Users (user_id),
+    CONSTRAINT fk_likes_post FOREIGN KEY (post_id) REFERENCES Posts (post_id)
+);
+CREATE INDEX idx_likes_post ON Likes (post_id);
+
+CREATE TABLE Post_Images (
+    image_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT       NOT NULL,
+    image_url  VARCHAR(255) NOT NULL,
+    sort_order INT          NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    is_deleted BOOLEAN      NOT NULL,
+    PRIMARY KEY (image_id),
+    CONSTRAINT fk_post_images_post FOREIGN KEY (post_id) REFERENCES Posts (post_id)
+);
+CREATE INDEX idx_post_images_post ON Post_Images (post_id, is_deleted, sort_order);
+
+-- 게시글/댓글/이미지 ID 할당 (시드 적재 후 LoadTestDataSeeder가 최대 ID 이후로 옮김)
+CREATE TABLE Id_Generators (
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+INSERT INTO Id_Generators (sequence_name, next_val) VALUES ('Posts', 100), ('Comments', 100), ('Post_Images', 100);